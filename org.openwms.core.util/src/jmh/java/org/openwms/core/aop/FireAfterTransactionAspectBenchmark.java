@@ -0,0 +1,93 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.aop;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openwms.core.annotation.FireAfterTransaction;
+import org.openwms.core.event.ConfigurationChangedEvent;
+import org.openwms.core.event.RoleChangedEvent;
+import org.openwms.core.event.UserChangedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.EventObject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A FireAfterTransactionAspectBenchmark measures the overhead per commit of firing the
+ * events declared in a {@link FireAfterTransaction} annotation, with the former
+ * reflective constructor lookup and with the cached event factories.
+ *
+ * @author Heiko Scherrer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FireAfterTransactionAspectBenchmark {
+
+    private StaticApplicationContext ctx;
+    private FireAfterTransactionAspect aspect;
+    private FireAfterTransaction annotation;
+
+    @FireAfterTransaction(events = {UserChangedEvent.class, RoleChangedEvent.class, ConfigurationChangedEvent.class})
+    public void save() {
+        // Only used to carry the annotation
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        ctx = new StaticApplicationContext();
+        ctx.refresh();
+        aspect = new FireAfterTransactionAspect(ctx);
+        annotation = getClass().getMethod("save").getAnnotation(FireAfterTransaction.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public void reflective(Blackhole bh) throws Exception {
+        for (int i = 0; i < annotation.events().length; i++) {
+            Class<? extends EventObject> event = annotation.events()[i];
+            if (ApplicationEvent.class.isAssignableFrom(event)) {
+                var instance = (ApplicationEvent) event.getConstructor(Object.class).newInstance(this);
+                ctx.publishEvent(instance);
+                bh.consume(instance);
+            }
+        }
+    }
+
+    @Benchmark
+    public void cached() {
+        aspect.fireEvent(this, annotation);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.ameba.http.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openwms.core.event.RootNotification;
+import org.openwms.core.lang.Triple;
+import org.openwms.core.values.PriorityLevel;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ResponseSerializationBenchmark measures the serialization throughput of typical
+ * {@link Response} bodies with a plain {@link ObjectMapper} and with the
+ * {@link CoreModule} registered.
+ *
+ * @author Heiko Scherrer
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean coreModule;
+    @Param({"1", "100"})
+    private int size;
+    private ObjectWriter writer;
+    private Response<Order> orders;
+    private Response<RootNotification> notifications;
+
+    public record Order(String id, PriorityLevel priority, Date created, Triple<String, Integer, String> attribute) implements Serializable {
+    }
+
+    @Setup
+    public void setup() {
+        var mapper = new ObjectMapper();
+        if (coreModule) {
+            mapper.registerModule(new CoreModule());
+        }
+        writer = mapper.writer();
+        var levels = PriorityLevel.values();
+        var created = new Date();
+        var ordersArray = new Order[size];
+        var notificationsArray = new RootNotification[size];
+        for (int i = 0; i < size; i++) {
+            ordersArray[i] = new Order("ORDER-" + i, levels[i % levels.length], created, new Triple<>("weight", i, "kg"));
+            notificationsArray[i] = new RootNotification(ordersArray[i]);
+        }
+        orders = Response.<Order>newBuilder().withHttpStatus("200").withObj(ordersArray).build();
+        notifications = Response.<RootNotification>newBuilder().withHttpStatus("200").withObj(notificationsArray).build();
+    }
+
+    @Benchmark
+    public byte[] orders() throws Exception {
+        return writer.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] notifications() throws Exception {
+        return writer.writeValueAsBytes(notifications);
+    }
+}
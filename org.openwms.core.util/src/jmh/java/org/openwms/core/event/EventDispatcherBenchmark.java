@@ -0,0 +1,107 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A EventDispatcherBenchmark compares the throughput of the {@link SimpleEventDispatcher}
+ * with the {@link CopyOnWriteEventDispatcher} when one event type is published by 1, 8
+ * and 64 threads concurrently.
+ *
+ * @author Heiko Scherrer
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventDispatcherBenchmark {
+
+    /** Number of listeners subscribed to the published event type. */
+    @Param({"1", "8"})
+    int listeners;
+    /** Amount of work each listener simulates, in JMH CPU tokens. */
+    @Param({"0", "100"})
+    int work;
+
+    private SimpleEventDispatcher simple;
+    private CopyOnWriteEventDispatcher copyOnWrite;
+    private UserChangedEvent event;
+
+    @Setup
+    public void setup() {
+        simple = new SimpleEventDispatcher(null);
+        copyOnWrite = new CopyOnWriteEventDispatcher(null);
+        for (int i = 0; i < listeners; i++) {
+            EventListener listener = e -> Blackhole.consumeCPU(work);
+            simple.subscribe(UserChangedEvent.class, listener);
+            copyOnWrite.subscribe(UserChangedEvent.class, listener);
+        }
+        event = new UserChangedEvent(this);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void simple_1() {
+        simple.dispatch(event);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void simple_8() {
+        simple.dispatch(event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void simple_64() {
+        simple.dispatch(event);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void copyOnWrite_1() {
+        copyOnWrite.dispatch(event);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void copyOnWrite_8() {
+        copyOnWrite.dispatch(event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void copyOnWrite_64() {
+        copyOnWrite.dispatch(event);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.lang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A CollectionUtilBenchmark compares the bulk operations of the {@link CollectionUtil}
+ * with the equivalent {@link Collectors} and the sequential with the parallel map
+ * conversion. Run with {@literal -prof gc} to see the
+ * allocation rate as well.
+ *
+ * @author Heiko Scherrer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionUtilBenchmark {
+
+    /** Number of elements in the list. */
+    @Param({"1000", "100000"})
+    int size;
+    /** Number of distinct groups. */
+    @Param({"10", "1000"})
+    int groups;
+
+    private List<Item> items;
+
+    record Item(int id, int group) {
+    }
+
+    private static final ListExtractor<Integer, Item> BY_ID = new ListExtractor<>() {
+        @Override
+        public <T> Integer extractKey(T listNode) {
+            return ((Item) listNode).id();
+        }
+
+        @Override
+        public <T> Item extractValue(T listNode) {
+            return (Item) listNode;
+        }
+    };
+
+    private static final ListExtractor<Integer, Item> BY_GROUP = new ListExtractor<>() {
+        @Override
+        public <T> Integer extractKey(T listNode) {
+            return ((Item) listNode).group();
+        }
+
+        @Override
+        public <T> Item extractValue(T listNode) {
+            return (Item) listNode;
+        }
+    };
+
+    private static final KeyValueExtractor<Item, Integer, Item> BY_ID_LAMBDA = KeyValueExtractor.byKey(Item::id);
+    private static final KeyValueExtractor<Item, Integer, Integer> ID_TO_GROUP = KeyValueExtractor.ofRecord(Item.class, "id", "group");
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(i, i % groups));
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Item> indexBy() {
+        return CollectionUtil.indexBy(items, BY_ID);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> indexBy_collectors() {
+        return items.stream().collect(Collectors.toMap(Item::id, Function.identity(), (a, b) -> b));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Item>> groupBy() {
+        return CollectionUtil.groupBy(items, BY_GROUP);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Item>> groupBy_collectors() {
+        return items.stream().collect(Collectors.groupingBy(Item::group));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Item>> partition() {
+        return CollectionUtil.partition(items, i -> i.group() % 2 == 0);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Item>> partition_collectors() {
+        return items.stream().collect(Collectors.partitioningBy(i -> i.group() % 2 == 0));
+    }
+
+    @Benchmark
+    public List<List<Item>> chunk() {
+        return CollectionUtil.chunk(items, groups);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Item>> chunk_collectors() {
+        return items.stream().collect(Collectors.groupingBy(i -> i.id() / groups));
+    }
+
+    @Benchmark
+    public Map<Integer, Item> asHashMap() {
+        return CollectionUtil.asHashMap(items, BY_ID, DuplicateKeyPolicy.LAST_WINS);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> asHashMap_parallel() {
+        return CollectionUtil.asHashMapParallel(items, BY_ID, DuplicateKeyPolicy.LAST_WINS);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> asHashMap_parallelUnordered() {
+        return CollectionUtil.asUnorderedHashMapParallel(items, BY_ID, DuplicateKeyPolicy.LAST_WINS);
+    }
+
+    @Benchmark
+    public Map<Integer, Item> asMap_lambda() {
+        return CollectionUtil.asMap(items, BY_ID_LAMBDA);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> asMap_record() {
+        return CollectionUtil.asMap(items, ID_TO_GROUP);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A TimeProviderBenchmark measures every {@code now*} method of the default
+ * {@link TimeProvider} methods, the {@link ClockTimeProvider} reading the clock on each
+ * call and the {@link ClockTimeProvider} in ticker mode.
+ *
+ * @author Heiko Scherrer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeProviderBenchmark {
+
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Param({"default", "clock", "ticker"})
+    private String provider;
+    private TimeProvider timeProvider;
+
+    @Setup
+    public void setup() {
+        timeProvider = switch (provider) {
+            case "clock" -> new ClockTimeProvider();
+            case "ticker" -> new ClockTimeProvider(Clock.systemUTC(), ZoneId.systemDefault(), Duration.ofMillis(1));
+            default -> new TimeProvider() {};
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (timeProvider instanceof ClockTimeProvider ctp) {
+            ctp.destroy();
+        }
+    }
+
+    @Benchmark
+    public Date nowAsCurrentDate() {
+        return timeProvider.nowAsCurrentDate();
+    }
+
+    @Benchmark
+    public Date nowAsZuluDate() {
+        return timeProvider.nowAsZuluDate();
+    }
+
+    @Benchmark
+    public ZonedDateTime nowAsCurrentZonedDateTime() {
+        return timeProvider.nowAsCurrentZonedDateTime();
+    }
+
+    @Benchmark
+    public ZonedDateTime nowAsZuluZonedDateTime() {
+        return timeProvider.nowAsZuluZonedDateTime();
+    }
+
+    @Benchmark
+    public ZonedDateTime nowAsZonedDateTime() {
+        return timeProvider.nowAsZonedDateTime(NEW_YORK);
+    }
+
+    @Benchmark
+    public Instant nowAsCurrentInstant() {
+        return timeProvider.nowAsCurrentInstant();
+    }
+
+    @Benchmark
+    public Instant nowAsZuluInstant() {
+        return timeProvider.nowAsZuluInstant();
+    }
+}
@@ -44,6 +44,10 @@ public final class SpringProfiles {
     public static final String NOT_MANAGED = "!MANAGED";
     /** Used to define that synchronous message handling is used. */
     public static final String IN_MEMORY = "INMEM";
+    /** Used to define that asynchronous tasks and event listeners are executed on virtual threads. */
+    public static final String VIRTUAL_THREADS = "VIRTUAL_THREADS";
+    /** Used to define that the application time is provided by a controllable virtual clock, e.g. in load and soak tests. */
+    public static final String VIRTUAL_TIME = "VIRTUAL_TIME";
     /**
      * Used to define that running within an OSGi container.
      *
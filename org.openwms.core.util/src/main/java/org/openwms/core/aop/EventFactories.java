@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.aop;
+
+import org.ameba.exception.TechnicalRuntimeException;
+import org.springframework.context.ApplicationEvent;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.EventObject;
+
+import static java.lang.String.format;
+
+/**
+ * A EventFactories is a registry of {@link EventFactory} instances that create events by
+ * calling the public constructor with a single {@code Object} parameter of the event
+ * class. The constructor is looked up once per event class and bound to a factory
+ * generated with the {@link LambdaMetafactory}, so creating an event costs no more than
+ * a plain constructor call.
+ *
+ * @author Heiko Scherrer
+ */
+final class EventFactories {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(ApplicationEvent.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final ClassValue<EventFactory> FACTORIES = new ClassValue<>() {
+        @Override
+        protected EventFactory computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * An EventFactory creates an event instance.
+     */
+    @FunctionalInterface
+    interface EventFactory {
+
+        /**
+         * Create the event.
+         *
+         * @param source The source of the event
+         * @return The event instance
+         */
+        ApplicationEvent create(Object source);
+    }
+
+    private EventFactories() {
+    }
+
+    /**
+     * Return the factory of the given event class.
+     *
+     * @param eventType The type of event to create, must be an {@link ApplicationEvent}
+     * @return The cached factory
+     * @throws TechnicalRuntimeException if the event class has no public constructor with
+     * one {@code Object} parameter
+     */
+    static EventFactory of(Class<? extends EventObject> eventType) {
+        return FACTORIES.get(eventType);
+    }
+
+    private static EventFactory create(Class<?> eventType) {
+        MethodHandle constructor;
+        try {
+            constructor = MethodHandles.publicLookup().findConstructor(eventType, CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new TechnicalRuntimeException(format("The event class [%s] has no public constructor that accepts an Object", eventType.getName()), e);
+        }
+        try {
+            var callSite = LambdaMetafactory.metafactory(
+                    MethodHandles.lookup(),
+                    "create",
+                    MethodType.methodType(EventFactory.class),
+                    FACTORY_TYPE,
+                    constructor,
+                    MethodType.methodType(eventType, Object.class)
+            );
+            return (EventFactory) callSite.getTarget().invokeExact();
+        } catch (LambdaConversionException | IllegalArgumentException e) {
+            // Constructors that are not accessible from here are still called through the handle
+            var handle = constructor.asType(FACTORY_TYPE);
+            return source -> {
+                try {
+                    return (ApplicationEvent) handle.invokeExact(source);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new TechnicalRuntimeException(ex.getMessage(), ex);
+                }
+            };
+        } catch (Throwable e) {
+            throw new TechnicalRuntimeException(e.getMessage(), e);
+        }
+    }
+}
@@ -25,8 +25,16 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.EventObject;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * An UserChangedEventAspect fires events after a method invocation completes.
@@ -46,6 +54,17 @@ import java.util.EventObject;
  *
  * </blockquote>
  * <p>
+ * If {@link #fireEvent(Object, FireAfterTransaction)} is called within an outer
+ * transaction, the events are not published immediately but collected until the outer
+ * transaction commits. Events of the same class and the same publisher instance are
+ * published only once then. When the transaction rolls back the collected events are
+ * discarded.
+ * </p>
+ * <p>
+ * The event classes of an annotation are resolved once per annotated method and each
+ * event is created with a cached factory instead of a reflective constructor call.
+ * </p>
+ * <p>
  * The component can be referenced by name {@value #COMPONENT_NAME}.
  * </p>
  *
@@ -57,7 +76,9 @@ public class FireAfterTransactionAspect {
     /** Springs component name. */
     public static final String COMPONENT_NAME = "fireAfterTransactionAspect";
     private static final Logger LOGGER = LoggerFactory.getLogger(FireAfterTransactionAspect.class);
+    private static final EventType[] NO_EVENTS = new EventType[0];
     private final ApplicationContext ctx;
+    private final ConcurrentMap<Annotation, EventType[]> eventTypes = new ConcurrentHashMap<>();
 
     public FireAfterTransactionAspect(ApplicationContext ctx) {
         this.ctx = ctx;
@@ -65,17 +86,26 @@ public class FireAfterTransactionAspect {
 
     /**
      * Only {@link ApplicationEvent}s are created and published over Springs
-     * {@link ApplicationContext}.
+     * {@link ApplicationContext}. Within an active transaction synchronization the events
+     * are collected and published after the transaction has committed.
      *
      * @param publisher The instance that is publishing the event
      * @param events A list of event classes to fire
      */
     public void fireEvent(Object publisher, FireAfterTransaction events) {
         try {
-            for (int i = 0; i < events.events().length; i++) {
-                Class<? extends EventObject> event = events.events()[i];
-                if (ApplicationEvent.class.isAssignableFrom(event)) {
-                    ctx.publishEvent((ApplicationEvent) event.getConstructor(Object.class).newInstance(publisher));
+            var types = eventTypes.get(events);
+            if (types == null) {
+                types = eventTypes.computeIfAbsent(events, a -> filter(events.events(), ApplicationEvent.class));
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                var collector = collector();
+                for (var type : types) {
+                    collector.add(type, publisher);
+                }
+            } else {
+                for (var type : types) {
+                    ctx.publishEvent(type.factory().create(publisher));
                 }
             }
         } catch (Exception e) {
@@ -93,15 +123,99 @@ public class FireAfterTransactionAspect {
     @Async
     public void fireEventAsync(Object publisher, FireAfterTransactionAsynchronous events) {
         try {
-            for (int i = 0; i < events.events().length; i++) {
-                Class<? extends EventObject> event = events.events()[i];
-                if (RootApplicationEvent.class.isAssignableFrom(event)) {
-                    LOGGER.debug("Sending event: [{}]", event);
-                    ctx.publishEvent((RootApplicationEvent) event.getConstructor(Object.class).newInstance(publisher));
-                }
+            var types = eventTypes.get(events);
+            if (types == null) {
+                types = eventTypes.computeIfAbsent(events, a -> filter(events.events(), RootApplicationEvent.class));
+            }
+            for (var type : types) {
+                var event = type.factory().create(publisher);
+                LOGGER.debug("Sending event: [{}]", event);
+                ctx.publishEvent(event);
             }
         } catch (Exception e) {
             throw new TechnicalRuntimeException(e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private static EventType[] filter(Class<? extends EventObject>[] types, Class<? extends ApplicationEvent> baseType) {
+        var result = new ArrayList<EventType>(types.length);
+        for (var type : types) {
+            if (baseType.isAssignableFrom(type)) {
+                result.add(new EventType(type, EventFactories.of(type)));
+            }
+        }
+        return result.toArray(NO_EVENTS);
+    }
+
+    private EventCollector collector() {
+        var collector = (EventCollector) TransactionSynchronizationManager.getResource(this);
+        if (collector == null) {
+            collector = new EventCollector();
+            TransactionSynchronizationManager.bindResource(this, collector);
+            TransactionSynchronizationManager.registerSynchronization(collector);
+        }
+        return collector;
+    }
+
+    /**
+     * An event class of an annotation together with the factory to create its instances.
+     */
+    private record EventType(Class<? extends EventObject> type, EventFactories.EventFactory factory) {
+    }
+
+    /**
+     * The key of a collected event, equal for the same event class and publisher instance.
+     */
+    private record PendingEvent(EventType eventType, Object publisher) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PendingEvent other && eventType.type() == other.eventType.type() && publisher == other.publisher;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.type().hashCode() + System.identityHashCode(publisher);
+        }
+    }
+
+    /**
+     * Collects the events of one transaction, bound as transactional resource to the aspect.
+     */
+    private final class EventCollector implements TransactionSynchronization {
+
+        private final Set<PendingEvent> events = new LinkedHashSet<>();
+
+        void add(EventType type, Object publisher) {
+            events.add(new PendingEvent(type, publisher));
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(FireAfterTransactionAspect.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(FireAfterTransactionAspect.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            LOGGER.debug("Transaction committed, publishing [{}] collected events", events.size());
+            try {
+                for (var event : events) {
+                    ctx.publishEvent(event.eventType().factory().create(event.publisher()));
+                }
+            } catch (Exception e) {
+                throw new TechnicalRuntimeException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            events.clear();
+            TransactionSynchronizationManager.unbindResourceIfPossible(FireAfterTransactionAspect.this);
+        }
+    }
+}
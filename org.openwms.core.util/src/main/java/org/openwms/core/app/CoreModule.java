@@ -0,0 +1,312 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.openwms.core.event.RootNotification;
+import org.openwms.core.lang.Triple;
+import org.openwms.core.values.PriorityLevel;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A CoreModule is a Jackson {@link Module} with hand-written serializers and
+ * deserializers for the core types that are commonly part of REST payloads, so these
+ * types are not processed with reflective bean introspection:
+ * <ul>
+ *     <li>{@link Date} in the format {@value org.openwms.core.time.TimeProvider#DATE_FORMAT}</li>
+ *     <li>{@link PriorityLevel} by name, index or {@code toString()} like Jackson does for
+ *     enums, it is still read with the enum deserializer of Jackson</li>
+ *     <li>{@link Triple} as object with the properties {@code key}, {@code value} and {@code type}</li>
+ *     <li>{@link RootNotification} as object with the property {@code data}, subclasses
+ *     are still processed as beans</li>
+ * </ul>
+ * The Jackson Blackbird module, which replaces reflective property access of all other
+ * beans with generated lambdas, is registered as dependency if it is enabled and on the
+ * classpath.
+ *
+ * @author Heiko Scherrer
+ */
+public class CoreModule extends SimpleModule {
+
+    /** The property to enable the Jackson Blackbird module. */
+    public static final String BLACKBIRD_PROPERTY_NAME = "owms.core.json.blackbird";
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final SerializedString KEY = new SerializedString("key");
+    private static final SerializedString VALUE = new SerializedString("value");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final JsonSerializer<RootNotification> ROOT_NOTIFICATION_SERIALIZER = new RootNotificationSerializer();
+    private static final JsonDeserializer<RootNotification> ROOT_NOTIFICATION_DESERIALIZER = new RootNotificationDeserializer(null);
+    private final boolean blackbird;
+
+    /**
+     * Create the module with {@link Date}s resolved in the system default zone.
+     */
+    public CoreModule() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Create the module with {@link Date}s resolved in the given zone.
+     *
+     * @param zone The zone of dates
+     */
+    public CoreModule(ZoneId zone) {
+        this(zone, false);
+    }
+
+    /**
+     * Create the module with {@link Date}s resolved in the given zone.
+     *
+     * @param zone The zone of dates
+     * @param blackbird Whether to register the Jackson Blackbird module, if present
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CoreModule(ZoneId zone, boolean blackbird) {
+        super(CoreModule.class.getSimpleName());
+        this.blackbird = blackbird;
+        addSerializer(Date.class, new DateFormatterSerializer(zone));
+        addDeserializer(Date.class, new DateFormatterDeserializer(zone));
+        addSerializer(PriorityLevel.class, new PriorityLevelSerializer());
+        addSerializer(Triple.class, (JsonSerializer) new TripleSerializer());
+        addDeserializer(Triple.class, (JsonDeserializer) new TripleDeserializer(null, null, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The mappers of {@link RootNotification} are only registered for exactly this class.
+     * </p>
+     */
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                return type.hasRawClass(RootNotification.class) ? ROOT_NOTIFICATION_SERIALIZER : null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+            @Override
+            public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+                return type.hasRawClass(RootNotification.class) ? ROOT_NOTIFICATION_DESERIALIZER : null;
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The Blackbird module, if enabled and present.
+     * </p>
+     */
+    @Override
+    public Iterable<? extends Module> getDependencies() {
+        if (blackbird && ClassUtils.isPresent(BLACKBIRD_MODULE, CoreModule.class.getClassLoader())) {
+            var module = (Module) BeanUtils.instantiateClass(ClassUtils.resolveClassName(BLACKBIRD_MODULE, CoreModule.class.getClassLoader()));
+            return List.of(module);
+        }
+        return List.of();
+    }
+
+    private static Object read(JsonDeserializer<Object> deserializer, JsonParser p, DeserializationContext ctxt) throws IOException {
+        return p.hasToken(JsonToken.VALUE_NULL) ? deserializer.getNullValue(ctxt) : deserializer.deserialize(p, ctxt);
+    }
+
+    private static String firstFieldName(JsonParser p) throws IOException {
+        if (p.isExpectedStartObjectToken()) {
+            return p.nextFieldName();
+        }
+        return p.hasToken(JsonToken.FIELD_NAME) ? p.currentName() : null;
+    }
+
+    private static boolean isObject(JsonParser p) {
+        return p.isExpectedStartObjectToken() || p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT);
+    }
+
+    private static final class PriorityLevelSerializer extends StdSerializer<PriorityLevel> {
+
+        private static final SerializableString[] NAMES = new SerializableString[PriorityLevel.values().length];
+
+        static {
+            for (var level : PriorityLevel.values()) {
+                NAMES[level.ordinal()] = new SerializedString(level.name());
+            }
+        }
+
+        PriorityLevelSerializer() {
+            super(PriorityLevel.class);
+        }
+
+        @Override
+        public void serialize(PriorityLevel value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)) {
+                gen.writeNumber(value.ordinal());
+            } else if (provider.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)) {
+                gen.writeString(value.toString());
+            } else {
+                gen.writeString(NAMES[value.ordinal()]);
+            }
+        }
+    }
+
+    private static final class TripleSerializer extends StdSerializer<Triple<?, ?, ?>> {
+
+        TripleSerializer() {
+            super(Triple.class, false);
+        }
+
+        @Override
+        public void serialize(Triple<?, ?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(KEY);
+            provider.defaultSerializeValue(value.key(), gen);
+            gen.writeFieldName(VALUE);
+            provider.defaultSerializeValue(value.value(), gen);
+            gen.writeFieldName(TYPE);
+            provider.defaultSerializeValue(value.type(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class TripleDeserializer extends StdDeserializer<Triple<?, ?, ?>> implements ContextualDeserializer {
+
+        private final transient JsonDeserializer<Object> keyDeserializer;
+        private final transient JsonDeserializer<Object> valueDeserializer;
+        private final transient JsonDeserializer<Object> typeDeserializer;
+
+        TripleDeserializer(JsonDeserializer<Object> keyDeserializer, JsonDeserializer<Object> valueDeserializer, JsonDeserializer<Object> typeDeserializer) {
+            super(Triple.class);
+            this.keyDeserializer = keyDeserializer;
+            this.valueDeserializer = valueDeserializer;
+            this.typeDeserializer = typeDeserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            var type = ctxt.getContextualType();
+            if (type == null) {
+                type = property == null ? TypeFactory.unknownType() : property.getType();
+            }
+            return new TripleDeserializer(
+                    ctxt.findContextualValueDeserializer(type.containedTypeOrUnknown(0), property),
+                    ctxt.findContextualValueDeserializer(type.containedTypeOrUnknown(1), property),
+                    ctxt.findContextualValueDeserializer(type.containedTypeOrUnknown(2), property)
+            );
+        }
+
+        @Override
+        public Triple<?, ?, ?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!isObject(p)) {
+                return (Triple<?, ?, ?>) ctxt.handleUnexpectedToken(Triple.class, p);
+            }
+            Object key = null;
+            Object value = null;
+            Object type = null;
+            for (var name = firstFieldName(p); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                switch (name) {
+                    case "key" -> key = read(keyDeserializer, p, ctxt);
+                    case "value" -> value = read(valueDeserializer, p, ctxt);
+                    case "type" -> type = read(typeDeserializer, p, ctxt);
+                    default -> handleUnknownProperty(p, ctxt, Triple.class, name);
+                }
+            }
+            return new Triple<>(key, value, type);
+        }
+    }
+
+    private static final class RootNotificationSerializer extends StdSerializer<RootNotification> {
+
+        RootNotificationSerializer() {
+            super(RootNotification.class);
+        }
+
+        @Override
+        public void serialize(RootNotification value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(value.getData(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class RootNotificationDeserializer extends StdDeserializer<RootNotification> implements ContextualDeserializer {
+
+        private final transient JsonDeserializer<Object> dataDeserializer;
+
+        RootNotificationDeserializer(JsonDeserializer<Object> dataDeserializer) {
+            super(RootNotification.class);
+            this.dataDeserializer = dataDeserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            return new RootNotificationDeserializer(ctxt.findContextualValueDeserializer(ctxt.constructType(Object.class), property));
+        }
+
+        @Override
+        public RootNotification deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!isObject(p)) {
+                return (RootNotification) ctxt.handleUnexpectedToken(RootNotification.class, p);
+            }
+            Object data = null;
+            for (var name = firstFieldName(p); name != null; name = p.nextFieldName()) {
+                p.nextToken();
+                if ("data".equals(name)) {
+                    data = read(dataDeserializer, p, ctxt);
+                } else {
+                    handleUnknownProperty(p, ctxt, RootNotification.class, name);
+                }
+            }
+            if (data instanceof Serializable serializable) {
+                return new RootNotification(serializable);
+            }
+            return ctxt.reportInputMismatch(this, "The data of a RootNotification must be serializable and not null");
+        }
+    }
+}
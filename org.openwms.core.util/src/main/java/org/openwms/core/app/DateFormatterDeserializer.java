@@ -0,0 +1,84 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import org.openwms.core.time.DateTimeFormatters;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * A DateFormatterDeserializer reads a {@link Date} from a String in the format
+ * {@value org.openwms.core.time.TimeProvider#DATE_FORMAT}, which is the start of that day,
+ * or from a number of milliseconds since the epoch.
+ *
+ * @author Heiko Scherrer
+ */
+public class DateFormatterDeserializer extends StdScalarDeserializer<Date> {
+
+    private final ZoneId zone;
+
+    /**
+     * Create a deserializer that resolves the date in the time zone of the {@code ObjectMapper}
+     * if one is set explicitly, and in the system default zone otherwise.
+     */
+    public DateFormatterDeserializer() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Create a deserializer that resolves the date in the time zone of the {@code ObjectMapper}
+     * if one is set explicitly, and in the given zone otherwise.
+     *
+     * @param zone The default zone
+     */
+    public DateFormatterDeserializer(ZoneId zone) {
+        super(Date.class);
+        this.zone = zone;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            return new Date(p.getLongValue());
+        }
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            return (Date) ctxt.handleUnexpectedToken(Date.class, p);
+        }
+        var text = p.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return Date.from(DateTimeFormatters.parseDate(text).atStartOfDay(zone(ctxt)).toInstant());
+        } catch (DateTimeException e) {
+            return (Date) ctxt.handleWeirdStringValue(Date.class, text, e.getMessage());
+        }
+    }
+
+    private ZoneId zone(DeserializationContext ctxt) {
+        return ctxt.getConfig().hasExplicitTimeZone() ? ctxt.getTimeZone().toZoneId() : zone;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.openwms.core.time.DateTimeFormatters;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * A DateFormatterSerializer writes a {@link Date} as String in the format
+ * {@value org.openwms.core.time.TimeProvider#DATE_FORMAT} with the
+ * {@link DateTimeFormatters} and without cloning a {@link java.text.SimpleDateFormat}
+ * per call.
+ *
+ * @author Heiko Scherrer
+ */
+public class DateFormatterSerializer extends StdSerializer<Date> {
+
+    private final ZoneId zone;
+
+    /**
+     * Create a serializer that resolves the date in the time zone of the {@code ObjectMapper}
+     * if one is set explicitly, and in the system default zone otherwise.
+     */
+    public DateFormatterSerializer() {
+        this(ZoneId.systemDefault());
+    }
+
+    /**
+     * Create a serializer that resolves the date in the time zone of the {@code ObjectMapper}
+     * if one is set explicitly, and in the given zone otherwise.
+     *
+     * @param zone The default zone
+     */
+    public DateFormatterSerializer(ZoneId zone) {
+        super(Date.class);
+        this.zone = zone;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        var date = LocalDate.ofInstant(value.toInstant(), zone(provider));
+        gen.writeString(DateTimeFormatters.appendDate(date, new StringBuilder(DateTimeFormatters.DATE_LENGTH)).toString());
+    }
+
+    private ZoneId zone(SerializerProvider provider) {
+        return provider.getConfig().hasExplicitTimeZone() ? provider.getTimeZone().toZoneId() : zone;
+    }
+}
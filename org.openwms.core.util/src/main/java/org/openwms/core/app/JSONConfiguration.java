@@ -20,17 +20,20 @@ import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import org.ameba.annotation.ExcludeFromScan;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
 
-import static org.openwms.core.time.TimeProvider.DATE_FORMAT;
-import static org.openwms.core.time.TimeProvider.DATE_TIME_MILLIS_FORMAT;
+import static org.openwms.core.time.DateTimeFormatters.DATE;
+import static org.openwms.core.time.DateTimeFormatters.DATE_TIME_MILLIS;
 
 /**
- * A JSONConfiguration.
+ * A JSONConfiguration registers the {@link CoreModule} and the formats of
+ * {@code LocalDate} and {@code LocalDateTime} values. The Jackson Blackbird module is
+ * registered with the property {@value CoreModule#BLACKBIRD_PROPERTY_NAME}={@literal true}.
  *
  * @author Heiko Scherrer
  */
@@ -38,14 +41,18 @@ import static org.openwms.core.time.TimeProvider.DATE_TIME_MILLIS_FORMAT;
 @Configuration
 public class JSONConfiguration {
 
+    @Bean
+    public CoreModule coreModule(@Value("${" + CoreModule.BLACKBIRD_PROPERTY_NAME + ":false}") boolean blackbird) {
+        return new CoreModule(ZoneId.systemDefault(), blackbird);
+    }
+
     @Bean
     public Jackson2ObjectMapperBuilderCustomizer jsonCustomizer() {
         return builder -> {
-            builder.simpleDateFormat(DATE_FORMAT);
-            builder.serializers(new LocalDateSerializer(DateTimeFormatter.ofPattern(DATE_FORMAT)));
-            builder.serializers(new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(DATE_TIME_MILLIS_FORMAT)));
-            builder.deserializers(new LocalDateDeserializer(DateTimeFormatter.ofPattern(DATE_FORMAT)));
-            builder.deserializers(new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DATE_TIME_MILLIS_FORMAT)));
+            builder.serializers(new LocalDateSerializer(DATE));
+            builder.serializers(new LocalDateTimeSerializer(DATE_TIME_MILLIS));
+            builder.deserializers(new LocalDateDeserializer(DATE));
+            builder.deserializers(new LocalDateTimeDeserializer(DATE_TIME_MILLIS));
         };
     }
 }
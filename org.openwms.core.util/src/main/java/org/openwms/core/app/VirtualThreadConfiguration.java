@@ -0,0 +1,43 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import org.openwms.core.SpringProfiles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * A VirtualThreadConfiguration provides the default {@code @Async} executor that runs each
+ * task on a virtual thread. This applies to the asynchronous publishing of the
+ * {@code NonBlockingEventPublisherImpl} and the {@code FireAfterTransactionAspect}.
+ * It is active with the Spring profile {@value SpringProfiles#VIRTUAL_THREADS}.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.VIRTUAL_THREADS)
+@Configuration
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public AsyncTaskExecutor taskExecutor() {
+        var executor = new SimpleAsyncTaskExecutor("owms-async-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import org.openwms.core.SpringProfiles;
+import org.openwms.core.time.ClockTimeProvider;
+import org.openwms.core.time.TimeProvider;
+import org.openwms.core.time.VirtualClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Instant;
+
+/**
+ * A VirtualTimeConfiguration provides a {@link VirtualClock} and a {@link TimeProvider}
+ * backed by it, that takes precedence over other TimeProviders. The clock starts at the
+ * instant of the property {@code owms.core.time.virtual.start}, or the current time if
+ * not set, and runs at the speed of {@code owms.core.time.virtual.speed}. Tests can
+ * inject the clock to warp, freeze or step the time. It is active with the Spring profile
+ * {@value SpringProfiles#VIRTUAL_TIME}.
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.VIRTUAL_TIME)
+@Configuration
+public class VirtualTimeConfiguration {
+
+    @Bean
+    public VirtualClock virtualClock(
+            @Value("${owms.core.time.virtual.start:}") String start,
+            @Value("${owms.core.time.virtual.speed:1}") double speed
+    ) {
+        var clock = new VirtualClock().warp(speed);
+        if (!start.isBlank()) {
+            clock.set(Instant.parse(start));
+        }
+        return clock;
+    }
+
+    @Primary
+    @Bean
+    public TimeProvider virtualTimeProvider(VirtualClock virtualClock) {
+        return new ClockTimeProvider(virtualClock);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import java.util.List;
+
+/**
+ * A BatchEventListener receives events in batches instead of one by one. It is meant for
+ * listeners with expensive reactions, like reloading data, that can handle a burst of
+ * events at once. Events are gathered by a {@link MicroBatchingEventListener}.
+ *
+ * @param <E> The type of events
+ * @author Heiko Scherrer
+ * @see MicroBatchingEventListener
+ */
+@FunctionalInterface
+public interface BatchEventListener<E extends RootApplicationEvent> {
+
+    /**
+     * Called with a batch of events of the same class in the order they have been
+     * dispatched.
+     *
+     * @param events The events, never empty
+     */
+    void onEvents(List<E> events);
+}
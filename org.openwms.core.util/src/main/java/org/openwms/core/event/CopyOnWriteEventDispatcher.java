@@ -0,0 +1,350 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.ameba.exception.ServiceLayerException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * A CopyOnWriteEventDispatcher is a Spring managed component that stores the subscribers
+ * of each event type in an immutable array. Subscribing or unsubscribing replaces the
+ * array with a modified copy, hence dispatching an event never locks and never allocates
+ * an iterator, it just walks the array that was current when the dispatch started.
+ * <p>
+ * Listeners may subscribe to any supertype or interface of an event, e.g. a listener
+ * subscribed to {@link RootApplicationEvent} receives all events. For each concrete event
+ * class a dispatch plan is resolved once and cached: the ordered array of all listeners
+ * across the type hierarchy, starting with the listeners of the concrete class, followed
+ * by those of the superclasses and finally those of the interfaces. A listener subscribed
+ * to more than one of these types is called once. Subscription changes only evict the
+ * plans of event classes that are assignable to the changed type, so dispatching still
+ * costs a single map lookup.
+ * </p>
+ * <p>
+ * This favours the typical use case where events are published very often but listeners
+ * are subscribed rarely. The dispatcher is activated with the property
+ * {@value #PROPERTY_NAME}={@value #PROPERTY_VALUE} and replaces the
+ * {@link SimpleEventDispatcher} then.
+ * </p>
+ * <p>
+ * A {@link BatchEventListener} is subscribed through a {@link MicroBatchingEventListener}
+ * that is created once per batch listener and closed when the listener is unsubscribed
+ * from its last event type or the dispatcher is destroyed. Subscribing batch listeners
+ * is specific to this dispatcher, with the {@link SimpleEventDispatcher} a
+ * {@link MicroBatchingEventListener} has to be created, subscribed and closed by the
+ * caller.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+@ConditionalOnProperty(name = CopyOnWriteEventDispatcher.PROPERTY_NAME, havingValue = CopyOnWriteEventDispatcher.PROPERTY_VALUE)
+@Component(value = CopyOnWriteEventDispatcher.COMPONENT_NAME)
+public class CopyOnWriteEventDispatcher implements EventDispatcher, DisposableBean {
+
+    /** Springs service name. */
+    public static final String COMPONENT_NAME = "copyOnWriteEventDispatcher";
+    /** The property to choose the EventDispatcher implementation. */
+    public static final String PROPERTY_NAME = "owms.core.event.dispatcher";
+    /** The property value to activate this dispatcher. */
+    public static final String PROPERTY_VALUE = "copy-on-write";
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+    private final ConcurrentMap<Class<?>, EventListener[]> subscriptions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, EventListener[]> plans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<BatchEventListener<?>, BatchSubscription> batchListeners = new ConcurrentHashMap<>();
+    /** Guards subscription changes and the resolution of dispatch plans. */
+    private final Object lock = new Object();
+    private final ApplicationContext ctx;
+    private final EventListenerInvoker invoker;
+
+    /**
+     * Create a CopyOnWriteEventDispatcher that calls listeners synchronously.
+     *
+     * @param ctx ApplicationContext
+     */
+    public CopyOnWriteEventDispatcher(ApplicationContext ctx) {
+        this(ctx, EventListenerInvoker.SYNCHRONOUS);
+    }
+
+    /**
+     * Autowiring constructor.
+     *
+     * @param ctx ApplicationContext
+     * @param invokers Provides the EventListenerInvoker to use, if none is defined
+     * listeners are called synchronously
+     */
+    @Autowired
+    public CopyOnWriteEventDispatcher(ApplicationContext ctx, ObjectProvider<EventListenerInvoker> invokers) {
+        this(ctx, invokers.getIfAvailable(() -> EventListenerInvoker.SYNCHRONOUS));
+    }
+
+    /**
+     * Create a CopyOnWriteEventDispatcher with an explicit EventListenerInvoker.
+     *
+     * @param ctx ApplicationContext
+     * @param invoker Used to call the listeners
+     */
+    public CopyOnWriteEventDispatcher(ApplicationContext ctx, EventListenerInvoker invoker) {
+        this.ctx = ctx;
+        this.invoker = invoker;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(Class<? extends RootApplicationEvent> event, EventListener listener) {
+        subscribeToType(event, listener);
+    }
+
+    /**
+     * Subscribe a listener to all events that are assignable to the given type. Opposed to
+     * {@link #subscribe(Class, EventListener)} the type may also be an interface that is
+     * implemented by events.
+     *
+     * @param eventType The class or interface of events to subscribe to
+     * @param listener The listener to call
+     */
+    public void subscribeToType(Class<?> eventType, EventListener listener) {
+        synchronized (lock) {
+            subscriptions.compute(eventType, (type, listeners) -> {
+                if (listeners == null) {
+                    return new EventListener[]{listener};
+                }
+                if (indexOf(listeners, listener) >= 0) {
+                    return listeners;
+                }
+                var result = Arrays.copyOf(listeners, listeners.length + 1);
+                result[listeners.length] = listener;
+                return result;
+            });
+            evictPlans(eventType);
+        }
+    }
+
+    /**
+     * Subscribe a listener that receives the events of the given type in batches. The
+     * time window and the batch size are taken from the first subscription of the
+     * listener, further subscriptions of the same listener share its buffers.
+     *
+     * @param event The type of events to subscribe to
+     * @param listener The listener to pass the batches to
+     * @param window The maximum time events are gathered before they are passed
+     * @param maxBatchSize The maximum number of events in a batch
+     * @param <E> The type of events
+     */
+    public <E extends RootApplicationEvent> void subscribe(Class<? extends E> event, BatchEventListener<E> listener, Duration window, int maxBatchSize) {
+        synchronized (lock) {
+            var subscription = batchListeners.computeIfAbsent(listener, l -> new BatchSubscription(new MicroBatchingEventListener<>(listener, window, maxBatchSize)));
+            subscription.eventTypes.add(event);
+            subscribe(event, subscription.adapter);
+        }
+    }
+
+    /**
+     * Unsubscribe a listener that has been subscribed with
+     * {@link #subscribe(Class, BatchEventListener, Duration, int)} before. Events that
+     * have already been gathered are still passed to the listener. When the listener is
+     * unsubscribed from the last event type its {@link MicroBatchingEventListener} is
+     * closed.
+     *
+     * @param event The type of events the listener has subscribed to
+     * @param listener The listener to remove
+     */
+    public void unsubscribe(Class<? extends RootApplicationEvent> event, BatchEventListener<?> listener) {
+        MicroBatchingEventListener<?> unused = null;
+        synchronized (lock) {
+            var subscription = batchListeners.get(listener);
+            if (subscription == null || !subscription.eventTypes.remove(event)) {
+                return;
+            }
+            unsubscribe(event, subscription.adapter);
+            if (subscription.eventTypes.isEmpty()) {
+                batchListeners.remove(listener);
+                unused = subscription.adapter;
+            }
+        }
+        if (unused != null) {
+            unused.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A bean that is a {@link BatchEventListener} is subscribed with the default window
+     * and batch size of the {@link MicroBatchingEventListener}.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void subscribe(Class<? extends RootApplicationEvent> event, String listenerBeanName) {
+        Object instance = ctx.getBean(listenerBeanName);
+        if (instance instanceof EventListener i) {
+            subscribe(event, i);
+        } else if (instance instanceof BatchEventListener<?> b) {
+            subscribe(event, (BatchEventListener<RootApplicationEvent>) b, MicroBatchingEventListener.DEFAULT_WINDOW, MicroBatchingEventListener.DEFAULT_MAX_BATCH_SIZE);
+        } else {
+            throw new ServiceLayerException(format("The bean with name [%s] is not of type EventListener and cannot subscribe to events", listenerBeanName));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(Class<? extends RootApplicationEvent> event, EventListener listener) {
+        unsubscribeFromType(event, listener);
+    }
+
+    /**
+     * Unsubscribe a listener that has been subscribed with
+     * {@link #subscribeToType(Class, EventListener)} before.
+     *
+     * @param eventType The class or interface of events the listener has subscribed to
+     * @param listener The listener to remove
+     */
+    public void unsubscribeFromType(Class<?> eventType, EventListener listener) {
+        synchronized (lock) {
+            subscriptions.computeIfPresent(eventType, (type, listeners) -> {
+                var idx = indexOf(listeners, listener);
+                if (idx < 0) {
+                    return listeners;
+                }
+                if (listeners.length == 1) {
+                    return null;
+                }
+                var result = new EventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, result, 0, idx);
+                System.arraycopy(listeners, idx + 1, result, idx, listeners.length - idx - 1);
+                return result;
+            });
+            evictPlans(eventType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(Class<? extends RootApplicationEvent> event, String listenerBeanName) {
+        Object instance = ctx.getBean(listenerBeanName);
+        if (instance instanceof EventListener i) {
+            unsubscribe(event, i);
+        } else if (instance instanceof BatchEventListener<?> b) {
+            unsubscribe(event, b);
+        } else {
+            throw new ServiceLayerException(format("The bean with name [%s] is not of type EventListener and cannot unsubscribe to events", listenerBeanName));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Listeners are passed to the {@link EventListenerInvoker} in the order of the
+     * dispatch plan of the event class.
+     */
+    @Override
+    public <T extends RootApplicationEvent> void dispatch(T event) {
+        if (null == event) {
+            return;
+        }
+        var listeners = plans.get(event.getClass());
+        if (listeners == null) {
+            listeners = resolvePlan(event.getClass());
+        }
+        for (var listener : listeners) {
+            invoker.invoke(listener, event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Passes all gathered events to the batch listeners and stops their timers.
+     */
+    @Override
+    public void destroy() {
+        batchListeners.values().forEach(s -> s.adapter.close());
+        batchListeners.clear();
+    }
+
+    private EventListener[] resolvePlan(Class<?> eventClass) {
+        synchronized (lock) {
+            return plans.computeIfAbsent(eventClass, this::buildPlan);
+        }
+    }
+
+    private EventListener[] buildPlan(Class<?> eventClass) {
+        var types = new LinkedHashSet<Class<?>>();
+        var interfaces = new ArrayDeque<Class<?>>();
+        for (Class<?> type = eventClass; type != null; type = type.getSuperclass()) {
+            types.add(type);
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            var type = interfaces.poll();
+            if (types.add(type)) {
+                interfaces.addAll(Arrays.asList(type.getInterfaces()));
+            }
+        }
+        var result = new LinkedHashSet<EventListener>();
+        for (var type : types) {
+            var listeners = subscriptions.get(type);
+            if (listeners != null) {
+                result.addAll(Arrays.asList(listeners));
+            }
+        }
+        return result.isEmpty() ? NO_LISTENERS : result.toArray(NO_LISTENERS);
+    }
+
+    private void evictPlans(Class<?> eventType) {
+        plans.keySet().removeIf(eventType::isAssignableFrom);
+    }
+
+    private static int indexOf(EventListener[] listeners, EventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The adapter of a batch listener and the event types it is subscribed to.
+     */
+    private record BatchSubscription(MicroBatchingEventListener<?> adapter, Set<Class<?>> eventTypes) {
+
+        BatchSubscription(MicroBatchingEventListener<?> adapter) {
+            this(adapter, new HashSet<>());
+        }
+    }
+}
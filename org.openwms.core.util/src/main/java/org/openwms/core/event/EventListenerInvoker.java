@@ -0,0 +1,38 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+/**
+ * An EventListenerInvoker is used by an {@link EventDispatcher} to call a subscribed
+ * {@link EventListener}. It defines whether listeners are called on the dispatching
+ * thread or asynchronously on other threads.
+ *
+ * @author Heiko Scherrer
+ */
+@FunctionalInterface
+public interface EventListenerInvoker {
+
+    /** Calls the listener sequentially on the dispatching thread. */
+    EventListenerInvoker SYNCHRONOUS = (listener, event) -> listener.onEvent(event);
+
+    /**
+     * Call the {@code listener} with the {@code event}.
+     *
+     * @param listener The listener to call
+     * @param event The event to pass
+     */
+    void invoke(EventListener listener, RootApplicationEvent event);
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * A MicroBatchingEventListener is an {@link EventListener} that gathers the received
+ * events per event class and passes them as batch to a {@link BatchEventListener}. A batch
+ * is delivered when it has reached the maximum size, on the thread that dispatched the
+ * last event, or at the latest when the time window has elapsed since the first event of
+ * the batch. The time windows of all instances are watched by one shared timer thread,
+ * which only hands over due batches to an {@link Executor}, so a slow listener does not
+ * delay the batches of other listeners. Batches of the same event class are delivered
+ * one after another in dispatch order.
+ * <p>
+ * The adapter can be subscribed to any {@link EventDispatcher} and must be closed when
+ * not used anymore, that delivers all pending events. Events received after closing are
+ * delivered immediately one by one.
+ * </p>
+ *
+ * @param <E> The type of events
+ * @author Heiko Scherrer
+ */
+public class MicroBatchingEventListener<E extends RootApplicationEvent> implements EventListener, AutoCloseable {
+
+    /** The default time window to gather events. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(100);
+    /** The default maximum number of events in a batch. */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(MicroBatchingEventListener.class);
+    private final BatchEventListener<E> delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final ConcurrentMap<Class<?>, Batch> batches = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /** Holds the timer thread, that is only started when the first batch is scheduled. */
+    private static final class Timer {
+
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            var executor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("owms-event-batch").daemon(true).factory());
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    /** Holds the default threads to deliver batches when their time window has elapsed. */
+    private static final class Delivery {
+
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+                Thread.ofPlatform().name("owms-event-batch-delivery-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Create a MicroBatchingEventListener with the default window and batch size.
+     *
+     * @param delegate The listener to pass the batches to
+     */
+    public MicroBatchingEventListener(BatchEventListener<E> delegate) {
+        this(delegate, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Create a MicroBatchingEventListener.
+     *
+     * @param delegate The listener to pass the batches to
+     * @param window The maximum time events are gathered
+     * @param maxBatchSize The maximum number of events in a batch
+     */
+    public MicroBatchingEventListener(BatchEventListener<E> delegate, Duration window, int maxBatchSize) {
+        this(delegate, window, maxBatchSize, null);
+    }
+
+    /**
+     * Create a MicroBatchingEventListener that delivers batches with an elapsed time window
+     * on the given executor.
+     *
+     * @param delegate The listener to pass the batches to
+     * @param window The maximum time events are gathered
+     * @param maxBatchSize The maximum number of events in a batch
+     * @param executor Delivers the batches with an elapsed time window, if {@literal null}
+     * a shared pool of daemon threads is used
+     */
+    public MicroBatchingEventListener(BatchEventListener<E> delegate, Duration window, int maxBatchSize, Executor executor) {
+        if (window.isNegative() || window.isZero() || maxBatchSize < 1) {
+            throw new IllegalArgumentException(format("The window must be positive and the batch size at least 1 but is [%s] and [%d]", window, maxBatchSize));
+        }
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.executor = executor == null ? Delivery.INSTANCE : executor;
+    }
+
+    /**
+     * Get the listener the batches are passed to.
+     *
+     * @return The delegate
+     */
+    public BatchEventListener<E> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Adds the event to the batch of its class.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onEvent(RootApplicationEvent event) {
+        batches.computeIfAbsent(event.getClass(), type -> new Batch()).add((E) event);
+    }
+
+    /**
+     * Deliver all gathered events immediately.
+     */
+    public void flush() {
+        for (var batch : batches.values()) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Delivers all gathered events.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    private final class Batch {
+
+        private final Object deliveryLock = new Object();
+        private List<E> events = new ArrayList<>();
+        private boolean scheduled;
+
+        void add(E event) {
+            boolean full;
+            var schedule = false;
+            synchronized (this) {
+                events.add(event);
+                full = closed || events.size() >= maxBatchSize;
+                if (!full && !scheduled) {
+                    scheduled = true;
+                    schedule = true;
+                }
+            }
+            if (full) {
+                flush();
+            } else if (schedule) {
+                Timer.INSTANCE.schedule(this::deliver, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void deliver() {
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("The batch of listener [{}] is delivered on the timer thread: {}", delegate, e.getMessage());
+                flush();
+            }
+        }
+
+        void flush() {
+            synchronized (deliveryLock) {
+                List<E> batch;
+                synchronized (this) {
+                    if (events.isEmpty()) {
+                        return;
+                    }
+                    batch = events;
+                    events = new ArrayList<>();
+                    scheduled = false;
+                }
+                try {
+                    delegate.onEvents(batch);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error passing a batch of [{}] events to listener [{}]: {}", batch.size(), delegate, e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
@@ -15,14 +15,17 @@
  */
 package org.openwms.core.event;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
- * A NonBlockingEventPublisherImpl is publishing events asynchronously.
+ * A NonBlockingEventPublisherImpl is publishing events asynchronously. It is not active
+ * when the {@link RingBufferEventPublisher} is enabled.
  *
  * @author Heiko Scherrer
  */
+@ConditionalOnProperty(name = RingBufferEventPublisher.PROPERTY_NAME, havingValue = "false", matchIfMissing = true)
 @Component(value = NonBlockingEventPublisherImpl.COMPONENT_NAME)
 public class NonBlockingEventPublisherImpl<T extends RootApplicationEvent> implements EventPublisher<T> {
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.openwms.core.SpringProfiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+
+/**
+ * A ParallelEventListenerInvoker calls the listeners of an event concurrently on a thread
+ * pool, so the latency of a dispatch is not the sum of all listener latencies anymore.
+ * <p>
+ * Events that return an {@link RootApplicationEvent#getOrderingKey() ordering key} are
+ * delivered to each listener in dispatch order. Therefore the listener invocations are
+ * spread over a fixed number of serial executors, striped by the listener and the
+ * ordering key. Invocations on the same stripe run one after another, invocations on
+ * different stripes and events without a key run in parallel. The order is only
+ * guaranteed for events that are dispatched in a defined order, e.g. by the same thread.
+ * </p>
+ * <p>
+ * The invocations run on a {@link ForkJoinPool} or, with the property
+ * {@code owms.core.event.parallel.virtual-threads=true}, on virtual threads. The component
+ * is activated with the property {@value #PROPERTY_NAME}={@literal true}. With the Spring
+ * profile {@value SpringProfiles#VIRTUAL_THREADS} the {@link VirtualThreadEventListenerInvoker}
+ * is used instead.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+@Profile("!" + SpringProfiles.VIRTUAL_THREADS)
+@ConditionalOnProperty(name = ParallelEventListenerInvoker.PROPERTY_NAME, havingValue = "true")
+@Component(value = ParallelEventListenerInvoker.COMPONENT_NAME)
+public class ParallelEventListenerInvoker implements EventListenerInvoker, DisposableBean {
+
+    /** Springs service name. */
+    public static final String COMPONENT_NAME = "parallelEventListenerInvoker";
+    /** The property to activate the parallel fan-out. */
+    public static final String PROPERTY_NAME = "owms.core.event.parallel.enabled";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelEventListenerInvoker.class);
+    /** Number of tasks a stripe runs before it gives the thread back to the pool, unless the pool is shut down. */
+    private static final int MAX_RUNS = 64;
+    private final ExecutorService pool;
+    private final SerialExecutor[] stripes;
+    private final int mask;
+
+    /**
+     * Create a ParallelEventListenerInvoker.
+     *
+     * @param stripes The number of serial executors used for ordered events, must be a
+     * power of two
+     * @param virtualThreads Whether to run invocations on virtual threads instead of a
+     * ForkJoinPool
+     */
+    public ParallelEventListenerInvoker(
+            @Value("${owms.core.event.parallel.stripes:64}") int stripes,
+            @Value("${owms.core.event.parallel.virtual-threads:false}") boolean virtualThreads) {
+        if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException(format("The number of stripes must be a power of two but is [%d]", stripes));
+        }
+        this.pool = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("owms-event-", 0).factory())
+                : new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        this.stripes = new SerialExecutor[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new SerialExecutor();
+        }
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns immediately, the listener is called on a pool thread. After the invoker has
+     * been destroyed, invocations are logged and dropped like failing listeners.
+     */
+    @Override
+    public void invoke(EventListener listener, RootApplicationEvent event) {
+        Runnable task = () -> call(listener, event);
+        var key = event.getOrderingKey();
+        if (key == null) {
+            try {
+                pool.execute(task);
+            } catch (RejectedExecutionException e) {
+                LOGGER.error("Dropped calling listener [{}] with event [{}] because the invoker is shut down", listener, event);
+            }
+        } else {
+            var hash = 31 * System.identityHashCode(listener) + key.hashCode();
+            stripes[(hash ^ (hash >>> 16)) & mask].execute(task);
+        }
+    }
+
+    private static void call(EventListener listener, RootApplicationEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (RuntimeException e) {
+            LOGGER.error("Error calling listener [{}] with event [{}]: {}", listener, event, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits until all pending listener invocations have finished.
+     */
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+
+    /**
+     * Runs tasks one after another in submission order on the shared pool.
+     */
+    private final class SerialExecutor {
+
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void execute(Runnable task) {
+            tasks.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    pool.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    var dropped = 0;
+                    while (tasks.poll() != null) {
+                        dropped++;
+                    }
+                    scheduled.set(false);
+                    LOGGER.error("Dropped [{}] listener calls because the invoker is shut down", dropped);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable task;
+                int runs = 0;
+                while ((runs++ < MAX_RUNS || pool.isShutdown()) && (task = tasks.poll()) != null) {
+                    task.run();
+                }
+            } finally {
+                scheduled.set(false);
+                if (!tasks.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.ameba.exception.ServiceLayerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * A RingBufferEventPublisher is publishing events asynchronously through a preallocated
+ * ring buffer, without creating a task object per event like Springs {@code @Async}
+ * support does.
+ * <p>
+ * Producers claim a slot in the buffer lock-free and publish the event into it. A
+ * configurable number of consumer threads claim batches of published events and pass
+ * them to the {@link EventDispatcher}. The capacity of the buffer must be a power of two.
+ * How consumers wait for new events is defined by the {@link WaitStrategy} and what
+ * happens when the buffer is full is defined by the {@link BackpressurePolicy}.
+ * </p>
+ * <p>
+ * Events published before the component is started are buffered and delivered as soon
+ * as the consumers are started. When stopped, the consumers deliver all pending events
+ * before they terminate and further events are rejected. The component is activated with
+ * the property {@value #PROPERTY_NAME}={@literal true}.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+@ConditionalOnProperty(name = RingBufferEventPublisher.PROPERTY_NAME, havingValue = "true")
+@Component(value = RingBufferEventPublisher.COMPONENT_NAME)
+public class RingBufferEventPublisher<T extends RootApplicationEvent> implements EventPublisher<T>, SmartLifecycle {
+
+    /** Springs service name. */
+    public static final String COMPONENT_NAME = "ringBufferEventPublisher";
+    /** The property to activate this publisher. */
+    public static final String PROPERTY_NAME = "owms.core.event.ring-buffer.enabled";
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferEventPublisher.class);
+    private static final long IDLE = Long.MAX_VALUE;
+
+    /**
+     * A WaitStrategy defines how threads wait for the ring buffer, either consumers that
+     * wait for new events or producers that wait for free slots.
+     */
+    public enum WaitStrategy {
+
+        /** Spin on the CPU, lowest latency but a core is fully occupied. */
+        BUSY_SPIN {
+            @Override
+            void idle(int counter) {
+                Thread.onSpinWait();
+            }
+        },
+
+        /** Spin a while and yield the CPU to other threads afterwards. */
+        YIELD {
+            @Override
+            void idle(int counter) {
+                if (counter < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+
+        /** Spin a while and park the thread afterwards, lowest CPU usage. */
+        PARK {
+            @Override
+            void idle(int counter) {
+                if (counter < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        };
+
+        private static final int SPIN_TRIES = 100;
+        private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+        /**
+         * Wait once.
+         *
+         * @param counter How often the caller has waited in a row
+         */
+        abstract void idle(int counter);
+    }
+
+    /**
+     * A BackpressurePolicy defines what happens when an event is published but the ring
+     * buffer is full.
+     */
+    public enum BackpressurePolicy {
+
+        /** The producer waits until a slot is free. */
+        BLOCK,
+
+        /** The oldest pending event is discarded in favour of the new one. */
+        DROP_OLDEST,
+
+        /** The new event is rejected with an exception. */
+        REJECT
+    }
+
+    private final EventDispatcher dispatcher;
+    private final int capacity;
+    private final int mask;
+    private final int batchSize;
+    private final WaitStrategy waitStrategy;
+    private final BackpressurePolicy backpressurePolicy;
+    private final Object[] entries;
+    /** For each slot the sequence of the event that has been published into it. */
+    private final AtomicLongArray published;
+    /** The highest sequence that has been claimed by a producer. */
+    private final AtomicLong producerCursor = new AtomicLong(-1);
+    /** The highest sequence that has been claimed by a consumer. */
+    private final AtomicLong consumerCursor = new AtomicLong(-1);
+    /** Per consumer the sequence before the batch in progress, or {@link #IDLE}. */
+    private final AtomicLong[] consumerSequences;
+    private final Thread[] consumers;
+    private final LongAdder dropped = new LongAdder();
+    private volatile long cachedGatingSequence = -1;
+    private volatile boolean running;
+    private volatile boolean accepting = true;
+
+    /**
+     * Create a RingBufferEventPublisher.
+     *
+     * @param dispatcher The dispatcher the events are finally passed to
+     * @param capacity The number of slots in the ring buffer, must be a power of two
+     * @param consumers The number of consumer threads
+     * @param batchSize The maximum number of events a consumer claims at once
+     * @param waitStrategy How consumers and blocked producers wait
+     * @param backpressurePolicy What happens when the buffer is full
+     */
+    public RingBufferEventPublisher(EventDispatcher dispatcher,
+            @Value("${owms.core.event.ring-buffer.capacity:1024}") int capacity,
+            @Value("${owms.core.event.ring-buffer.consumers:1}") int consumers,
+            @Value("${owms.core.event.ring-buffer.batch-size:64}") int batchSize,
+            @Value("${owms.core.event.ring-buffer.wait-strategy:PARK}") WaitStrategy waitStrategy,
+            @Value("${owms.core.event.ring-buffer.backpressure-policy:BLOCK}") BackpressurePolicy backpressurePolicy) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(format("The capacity of the ring buffer must be a power of two but is [%d]", capacity));
+        }
+        if (consumers < 1 || batchSize < 1) {
+            throw new IllegalArgumentException(format("At least one consumer and a batch size of at least one are required but is [%d] and [%d]", consumers, batchSize));
+        }
+        this.dispatcher = dispatcher;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.batchSize = batchSize;
+        this.waitStrategy = waitStrategy;
+        this.backpressurePolicy = backpressurePolicy;
+        this.entries = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.consumerSequences = new AtomicLong[consumers];
+        this.consumers = new Thread[consumers];
+        for (int i = 0; i < consumers; i++) {
+            var sequence = new AtomicLong(IDLE);
+            consumerSequences[i] = sequence;
+            this.consumers[i] = Thread.ofPlatform()
+                    .name("owms-event-ring-" + i)
+                    .daemon(true)
+                    .unstarted(() -> consume(sequence));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ServiceLayerException with the {@link BackpressurePolicy#REJECT} policy if
+     * the buffer is full or if the publisher has been stopped, also while waiting for a
+     * free slot
+     */
+    @Override
+    public void publish(T event) {
+        if (event == null) {
+            return;
+        }
+        if (!accepting) {
+            throw stopped(event);
+        }
+        long next;
+        int counter = 0;
+        while (true) {
+            var current = producerCursor.get();
+            next = current + 1;
+            var wrapPoint = next - capacity;
+            if (wrapPoint > cachedGatingSequence) {
+                var gatingSequence = gatingSequence();
+                cachedGatingSequence = gatingSequence;
+                if (wrapPoint > gatingSequence) {
+                    onFull(event, counter++);
+                    continue;
+                }
+            }
+            if (producerCursor.compareAndSet(current, next)) {
+                break;
+            }
+        }
+        var idx = (int) next & mask;
+        entries[idx] = event;
+        published.set(idx, next);
+    }
+
+    private static ServiceLayerException stopped(Object event) {
+        return new ServiceLayerException(format("The publisher has been stopped and cannot publish the event [%s]", event));
+    }
+
+    private void onFull(T event, int counter) {
+        // The consumers may have been stopped after the event has been accepted
+        if (!accepting) {
+            throw stopped(event);
+        }
+        switch (backpressurePolicy) {
+            case REJECT -> throw new ServiceLayerException(format("The ring buffer is full and the event [%s] is rejected", event));
+            case DROP_OLDEST -> {
+                if (!dropOldest()) {
+                    waitStrategy.idle(counter);
+                }
+            }
+            default -> waitStrategy.idle(counter);
+        }
+    }
+
+    private boolean dropOldest() {
+        var current = consumerCursor.get();
+        var oldest = current + 1;
+        if (published.get((int) oldest & mask) == oldest && consumerCursor.compareAndSet(current, oldest)) {
+            // The slot is not cleared, the producer that claims it next overwrites it
+            dropped.increment();
+            LOGGER.debug("Ring buffer is full, dropped the event with sequence [{}]", oldest);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * The lowest sequence that all consumers have passed. The consumer cursor must be read
+     * before the consumer sequences because a consumer announces its sequence before it
+     * moves the cursor.
+     */
+    private long gatingSequence() {
+        var minimum = consumerCursor.get();
+        for (var sequence : consumerSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void consume(AtomicLong sequence) {
+        int counter = 0;
+        while (running || consumerCursor.get() < producerCursor.get()) {
+            var current = consumerCursor.get();
+            var available = producerCursor.get();
+            if (available <= current) {
+                waitStrategy.idle(counter++);
+                continue;
+            }
+            counter = 0;
+            var end = Math.min(available, current + batchSize);
+            sequence.set(current);
+            if (!consumerCursor.compareAndSet(current, end)) {
+                sequence.set(IDLE);
+                continue;
+            }
+            for (var seq = current + 1; seq <= end; seq++) {
+                var idx = (int) seq & mask;
+                int waits = 0;
+                while (published.get(idx) != seq) {
+                    // The slot is claimed but the producer has not yet published into it
+                    waitStrategy.idle(waits++);
+                }
+                var event = (T) entries[idx];
+                entries[idx] = null;
+                try {
+                    dispatcher.dispatch(event);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error dispatching event [{}]: {}", event, e.getMessage(), e);
+                }
+            }
+            sequence.set(IDLE);
+        }
+    }
+
+    /**
+     * Return the number of events that have been discarded with the
+     * {@link BackpressurePolicy#DROP_OLDEST} policy.
+     *
+     * @return The number of dropped events
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Starts the consumer threads.
+     */
+    @Override
+    public void start() {
+        if (!running && accepting) {
+            running = true;
+            for (var consumer : consumers) {
+                consumer.start();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops accepting new events and waits until the consumers have delivered all pending
+     * events.
+     */
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        for (var consumer : consumers) {
+            try {
+                if (consumer.isAlive()) {
+                    consumer.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -36,4 +36,16 @@ public class RootApplicationEvent extends ApplicationEvent implements Serializab
     public RootApplicationEvent(Object source) {
         super(source);
     }
+
+    /**
+     * Return a key that defines the delivery order when listeners are called in parallel.
+     * Events with equal ordering keys are passed to each listener in the order they have
+     * been dispatched, events without a key are delivered in any order. Subclasses may
+     * override this to return, for example, the identifier of the changed entity.
+     *
+     * @return The ordering key or {@literal null} if the order does not matter
+     */
+    public Object getOrderingKey() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -16,6 +16,9 @@
 package org.openwms.core.event;
 
 import org.ameba.exception.ServiceLayerException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
@@ -29,25 +32,58 @@ import static java.lang.String.format;
 /**
  * A SimpleEventDispatcher is a Spring managed component that stores all subscribers in an
  * in-memory key-value store implementation and calls all subscribers sequentially and
- * synchronously.
+ * synchronously, unless an {@link EventListenerInvoker} is defined that calls them
+ * differently. This is the default EventDispatcher unless another implementation is
+ * chosen with the property {@value CopyOnWriteEventDispatcher#PROPERTY_NAME}.
+ * <p>
+ * {@link BatchEventListener}s can't be subscribed directly, but wrapped in a
+ * {@link MicroBatchingEventListener} that the caller closes after unsubscribing.
+ * </p>
  *
  * @author Heiko Scherrer
  */
+@ConditionalOnProperty(name = CopyOnWriteEventDispatcher.PROPERTY_NAME, havingValue = SimpleEventDispatcher.PROPERTY_VALUE, matchIfMissing = true)
 @Component(value = SimpleEventDispatcher.COMPONENT_NAME)
 public class SimpleEventDispatcher implements EventDispatcher {
 
     /** Springs service name. */
     public static final String COMPONENT_NAME = "simpleEventDispatcher";
+    /** The property value to activate this dispatcher. */
+    public static final String PROPERTY_VALUE = "simple";
     private final Map<Class<? extends RootApplicationEvent>, Set<EventListener>> subscriptions = new HashMap<>();
     private final ApplicationContext ctx;
+    private final EventListenerInvoker invoker;
 
     /**
-     * Autowiring constructor.
+     * Create a SimpleEventDispatcher that calls listeners synchronously.
      *
      * @param ctx ApplicationContext
      */
     public SimpleEventDispatcher(ApplicationContext ctx) {
+        this(ctx, EventListenerInvoker.SYNCHRONOUS);
+    }
+
+    /**
+     * Autowiring constructor.
+     *
+     * @param ctx ApplicationContext
+     * @param invokers Provides the EventListenerInvoker to use, if none is defined
+     * listeners are called synchronously
+     */
+    @Autowired
+    public SimpleEventDispatcher(ApplicationContext ctx, ObjectProvider<EventListenerInvoker> invokers) {
+        this(ctx, invokers.getIfAvailable(() -> EventListenerInvoker.SYNCHRONOUS));
+    }
+
+    /**
+     * Create a SimpleEventDispatcher with an explicit EventListenerInvoker.
+     *
+     * @param ctx ApplicationContext
+     * @param invoker Used to call the listeners
+     */
+    public SimpleEventDispatcher(ApplicationContext ctx, EventListenerInvoker invoker) {
         this.ctx = ctx;
+        this.invoker = invoker;
     }
 
     /**
@@ -60,9 +96,9 @@ public class SimpleEventDispatcher implements EventDispatcher {
             if (listeners == null) {
                 listeners = HashSet.newHashSet(1);
                 listeners.add(listener);
+                subscriptions.put(event, listeners);
             } else {
                 listeners.add(listener);
-                subscriptions.put(event, listeners);
             }
         }
     }
@@ -115,7 +151,7 @@ public class SimpleEventDispatcher implements EventDispatcher {
         }
         synchronized (subscriptions.get(event.getClass())) {
             Set<EventListener> listeners = subscriptions.get(event.getClass());
-            listeners.forEach(l -> l.onEvent(event));
+            listeners.forEach(l -> invoker.invoke(l, event));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.openwms.core.util.TreeDiff;
+import org.openwms.core.util.TreeNode;
+import org.openwms.core.util.TreePatch;
+
+import java.io.Serializable;
+
+/**
+ * A TreeChangedEvent is raised when a tree, like the topology of locations, has changed.
+ * It carries the {@link TreePatch} with the changes, so that listeners can update their
+ * copies of the tree incrementally instead of reloading it.
+ *
+ * @author Heiko Scherrer
+ * @see TreeDiff
+ */
+public class TreeChangedEvent extends RootApplicationEvent implements Serializable {
+
+    private final TreePatch<?> patch;
+
+    /**
+     * Create a new TreeChangedEvent.
+     *
+     * @param source The owner of the tree that has changed
+     * @param patch The changes
+     */
+    public TreeChangedEvent(Object source, TreePatch<?> patch) {
+        super(source);
+        this.patch = patch;
+    }
+
+    /**
+     * Compare two trees and dispatch a TreeChangedEvent if they differ.
+     *
+     * @param diff The TreeDiff to compare the trees with
+     * @param oldRoot The root of the old tree
+     * @param newRoot The root of the new tree
+     * @param source The source of the event, e.g. the owner of the tree
+     * @param dispatcher The dispatcher to dispatch the event with
+     * @param <T> The type of the node data
+     * @return The patch to turn the old tree into the new one
+     */
+    public static <T> TreePatch<T> dispatch(TreeDiff<T> diff, TreeNode<T> oldRoot, TreeNode<T> newRoot, Object source, EventDispatcher dispatcher) {
+        var patch = diff.diff(oldRoot, newRoot);
+        if (!patch.isEmpty()) {
+            dispatcher.dispatch(new TreeChangedEvent(source, patch));
+        }
+        return patch;
+    }
+
+    /**
+     * Get the changes of the tree.
+     *
+     * @return The patch
+     */
+    public TreePatch<?> getPatch() {
+        return patch;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Patches of the same tree must be applied in order.
+     */
+    @Override
+    public Object getOrderingKey() {
+        return getSource();
+    }
+}
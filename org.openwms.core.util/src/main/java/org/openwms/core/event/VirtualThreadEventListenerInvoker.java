@@ -0,0 +1,123 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.openwms.core.SpringProfiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import static java.lang.String.format;
+
+/**
+ * A VirtualThreadEventListenerInvoker calls each {@link EventListener} on its own virtual
+ * thread, so listeners that block on I/O, like JDBC or HTTP calls, do not occupy platform
+ * threads.
+ * <p>
+ * The number of listener invocations that run concurrently for the same event type is
+ * limited by a semaphore per event class. The default limit is configured with the
+ * property {@code owms.core.event.virtual-threads.max-concurrency} and can be changed per
+ * event type with {@link #setConcurrencyLimit(Class, int)}. The component is active with
+ * the Spring profile {@value SpringProfiles#VIRTUAL_THREADS}.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+@Profile(SpringProfiles.VIRTUAL_THREADS)
+@Component(value = VirtualThreadEventListenerInvoker.COMPONENT_NAME)
+public class VirtualThreadEventListenerInvoker implements EventListenerInvoker, DisposableBean {
+
+    /** Springs service name. */
+    public static final String COMPONENT_NAME = "virtualThreadEventListenerInvoker";
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadEventListenerInvoker.class);
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("owms-event-", 0).factory());
+    private final ConcurrentMap<Class<?>, Semaphore> limits = new ConcurrentHashMap<>();
+    private final int maxConcurrency;
+
+    /**
+     * Create a VirtualThreadEventListenerInvoker.
+     *
+     * @param maxConcurrency The default number of concurrent listener invocations per event
+     * type
+     */
+    public VirtualThreadEventListenerInvoker(@Value("${owms.core.event.virtual-threads.max-concurrency:64}") int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(format("The maximum concurrency must be at least 1 but is [%d]", maxConcurrency));
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Set the number of listener invocations that may run concurrently for events of the
+     * given class. Invocations that are already waiting for a permit still use the previous
+     * limit.
+     *
+     * @param eventType The concrete event class
+     * @param maxConcurrency The number of concurrent invocations
+     */
+    public void setConcurrencyLimit(Class<? extends RootApplicationEvent> eventType, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(format("The maximum concurrency must be at least 1 but is [%d]", maxConcurrency));
+        }
+        limits.put(eventType, new Semaphore(maxConcurrency));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns immediately, the listener is called on a new virtual thread as soon as a
+     * permit of the event type is available.
+     */
+    @Override
+    public void invoke(EventListener listener, RootApplicationEvent event) {
+        var limit = limits.computeIfAbsent(event.getClass(), type -> new Semaphore(maxConcurrency));
+        executor.execute(() -> {
+            try {
+                limit.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while waiting to deliver event [{}]", event);
+                return;
+            }
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                LOGGER.error("Error calling listener [{}] with event [{}]: {}", listener, event, e.getMessage(), e);
+            } finally {
+                limit.release();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits until all running listener invocations have finished.
+     */
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+}
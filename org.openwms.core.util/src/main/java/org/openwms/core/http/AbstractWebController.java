@@ -15,6 +15,10 @@
  */
 package org.openwms.core.http;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
@@ -30,16 +34,22 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 /**
  * A AbstractWebController.
@@ -48,10 +58,15 @@ import java.util.Locale;
  */
 public abstract class AbstractWebController {
 
+    /** The media type of newline delimited JSON. */
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    /** The number of elements written to a streaming response before the output is flushed. */
+    public static final int DEFAULT_FLUSH_SIZE = 100;
     private static final Logger EXC_LOGGER = LoggerFactory.getLogger(LoggingCategories.PRESENTATION_LAYER_EXCEPTION);
     private static final String P_PRESENTATION_LAYER_EXCEPTION = "[P] Presentation Layer Exception: {}";
     @Autowired
     private MessageSource messageSource;
+    private ObjectMapper objectMapper;
 
     /**
      * @deprecated Will become private. Migrate to use {@link #AbstractWebController(MessageSource)} instead.
@@ -63,6 +78,11 @@ public abstract class AbstractWebController {
         this.messageSource = messageSource;
     }
 
+    protected AbstractWebController(MessageSource messageSource, ObjectMapper objectMapper) {
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+    }
+
     @ExceptionHandler(BehaviorAwareException.class)
     protected ResponseEntity<Response<?>> handleBehaviorAwareException(BehaviorAwareException bae) {
         EXC_LOGGER.error(P_PRESENTATION_LAYER_EXCEPTION, bae.getLocalizedMessage(), bae);
@@ -268,6 +288,167 @@ public abstract class AbstractWebController {
         return buildResponse(code, msg, "", params);
     }
 
+    /**
+     * Get the ObjectMapper used to write streaming responses. This is the one of the
+     * application context or, if there is none, a default one.
+     *
+     * @return The ObjectMapper
+     */
+    protected ObjectMapper getObjectMapper() {
+        if (objectMapper == null) {
+            objectMapper = JsonMapper.builder().findAndAddModules().build();
+        }
+        return objectMapper;
+    }
+
+    /**
+     * Set the ObjectMapper used to write streaming responses, for subclasses that are not
+     * created with {@link #AbstractWebController(MessageSource, ObjectMapper)}.
+     *
+     * @param objectMapper The ObjectMapper of the application context
+     */
+    @Autowired(required = false)
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        if (this.objectMapper == null) {
+            this.objectMapper = objectMapper;
+        }
+    }
+
+    /**
+     * Build a response that writes the elements of a stream as newline delimited JSON, one
+     * element per line, while the stream is consumed. The stream is closed afterwards.
+     *
+     * @param <T> Type of elements
+     * @param elements The elements to write
+     * @return A ResponseEntity with status {@link HttpStatus#OK}
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> buildNdjsonResponse(Stream<T> elements) {
+        return buildNdjsonResponse(elements, DEFAULT_FLUSH_SIZE);
+    }
+
+    /**
+     * Build a response that writes the elements of a stream as newline delimited JSON, one
+     * element per line, while the stream is consumed. The stream is closed afterwards.
+     * <p>
+     * The body is written asynchronously after the handler method has returned. A stream
+     * backed by a database cursor needs the transaction or session to stay open until the
+     * body has been written. The stream is only consumed and closed when the body is
+     * written, if that never happens, e.g. because of an async timeout, the caller is
+     * responsible to close it.
+     * </p>
+     *
+     * @param <T> Type of elements
+     * @param elements The elements to write
+     * @param flushSize The number of elements written before the output is flushed
+     * @return A ResponseEntity with status {@link HttpStatus#OK}
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> buildNdjsonResponse(Stream<T> elements, int flushSize) {
+        return buildStreamingResponse(APPLICATION_NDJSON, elements, flushSize, false);
+    }
+
+    /**
+     * Build a response that writes the elements of an iterator as newline delimited JSON,
+     * one element per line, while the iterator is consumed.
+     *
+     * @param <T> Type of elements
+     * @param elements The elements to write
+     * @param flushSize The number of elements written before the output is flushed
+     * @return A ResponseEntity with status {@link HttpStatus#OK}
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> buildNdjsonResponse(Iterator<T> elements, int flushSize) {
+        return buildStreamingResponse(APPLICATION_NDJSON, elements, flushSize, false);
+    }
+
+    /**
+     * Build a response that writes the elements of a stream as JSON array while the stream
+     * is consumed. The stream is closed afterwards.
+     *
+     * @param <T> Type of elements
+     * @param elements The elements to write
+     * @return A ResponseEntity with status {@link HttpStatus#OK}
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> buildJsonArrayResponse(Stream<T> elements) {
+        return buildJsonArrayResponse(elements, DEFAULT_FLUSH_SIZE);
+    }
+
+    /**
+     * Build a response that writes the elements of a stream as JSON array while the stream
+     * is consumed. The stream is closed afterwards.
+     * <p>
+     * Like with {@link #buildNdjsonResponse(Stream, int)}, the transaction or session of
+     * the stream must stay open until the body has been written, and the caller must close
+     * a stream whose body is never written.
+     * </p>
+     *
+     * @param <T> Type of elements
+     * @param elements The elements to write
+     * @param flushSize The number of elements written before the output is flushed
+     * @return A ResponseEntity with status {@link HttpStatus#OK}
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> buildJsonArrayResponse(Stream<T> elements, int flushSize) {
+        return buildStreamingResponse(MediaType.APPLICATION_JSON, elements, flushSize, true);
+    }
+
+    /**
+     * Build a response that writes the elements of an iterator as JSON array while the
+     * iterator is consumed.
+     *
+     * @param <T> Type of elements
+     * @param elements The elements to write
+     * @param flushSize The number of elements written before the output is flushed
+     * @return A ResponseEntity with status {@link HttpStatus#OK}
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> buildJsonArrayResponse(Iterator<T> elements, int flushSize) {
+        return buildStreamingResponse(MediaType.APPLICATION_JSON, elements, flushSize, true);
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> buildStreamingResponse(MediaType mediaType, Stream<T> elements, int flushSize, boolean array) {
+        validateFlushSize(flushSize);
+        var mapper = getObjectMapper();
+        return ResponseEntity.ok().contentType(mediaType).body(out -> {
+            try (elements) {
+                writeElements(mapper, out, elements.iterator(), flushSize, array);
+            }
+        });
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> buildStreamingResponse(MediaType mediaType, Iterator<T> elements, int flushSize, boolean array) {
+        validateFlushSize(flushSize);
+        var mapper = getObjectMapper();
+        return ResponseEntity.ok().contentType(mediaType).body(out -> writeElements(mapper, out, elements, flushSize, array));
+    }
+
+    private static void validateFlushSize(int flushSize) {
+        if (flushSize < 1) {
+            throw new IllegalArgumentException("The flush size must be positive but is [" + flushSize + "]");
+        }
+    }
+
+    private static void writeElements(ObjectMapper mapper, OutputStream out, Iterator<?> elements, int flushSize, boolean array) throws IOException {
+        var writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = mapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (array) {
+                generator.writeStartArray();
+            }
+            var pending = 0;
+            while (elements.hasNext()) {
+                writer.writeValue(generator, elements.next());
+                if (!array) {
+                    generator.writeRaw('\n');
+                }
+                if (++pending == flushSize) {
+                    generator.flush();
+                    pending = 0;
+                }
+            }
+            if (array) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
     /**
      * Append the ID of the object that was created to the original request URL and return it.
      *
@@ -15,18 +15,40 @@
  */
 package org.openwms.core.lang;
 
+import org.openwms.core.DomainObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import static java.lang.String.format;
 
 /**
  * A CollectionUtil.
+ * <p>
+ * The bulk operations size the created collections upfront and iterate lists that
+ * implement {@link RandomAccess} by index, so they neither resize collections nor create
+ * iterators or stream pipelines.
+ * </p>
  *
  * @author Heiko Scherrer
  */
 public final class CollectionUtil {
 
+    /** Lists with less elements are converted sequentially. */
+    private static final int MIN_PARALLEL_SIZE = 8192;
+
     private CollectionUtil() {
     }
 
@@ -66,4 +88,477 @@ public final class CollectionUtil {
         }
         return map;
     }
-}
\ No newline at end of file
+
+    /**
+     * Convert a list into a {@link LinkedHashMap} using a {@link ListExtractor} to
+     * determine the keys and values for the new Map. The map keeps the encounter order of
+     * the keys.
+     *
+     * @param <K> Type of list key
+     * @param <V> Type of list value
+     * @param list The list to convert
+     * @param extractor To determine key and value for each list entry
+     * @param policy How to handle elements with the same key
+     * @return A created {@link LinkedHashMap} or an empty map when the list or the
+     * extractor is {@literal null}
+     * @throws IllegalStateException if the policy is {@link DuplicateKeyPolicy#FAIL} and
+     * a key occurs twice
+     */
+    public static <K, V> Map<K, V> asHashMap(List<V> list, ListExtractor<K, V> extractor, DuplicateKeyPolicy policy) {
+        if (list == null || extractor == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var elements = randomAccess(list);
+        return new AsMapTask<>(elements, extractor, policy, true, 0, elements.size(), Integer.MAX_VALUE).compute();
+    }
+
+    /**
+     * Convert a list into a {@link LinkedHashMap} using a {@link KeyValueExtractor} to
+     * determine the keys and values for the new Map. If more than one element has the
+     * same key, the last value wins and the key keeps the position of its first
+     * occurrence.
+     *
+     * @param <E> Type of list elements
+     * @param <K> Type of keys
+     * @param <V> Type of values
+     * @param list The list to convert
+     * @param extractor To determine key and value for each element
+     * @return A created {@link LinkedHashMap} or an empty map when one of the arguments
+     * is {@literal null}
+     */
+    public static <E, K, V> Map<K, V> asMap(List<E> list, KeyValueExtractor<E, K, V> extractor) {
+        if (list == null || extractor == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        Map<K, V> map = LinkedHashMap.newLinkedHashMap(size);
+        for (int i = 0; i < size; i++) {
+            var element = elements.get(i);
+            map.put(extractor.key(element), extractor.value(element));
+        }
+        return map;
+    }
+
+    /**
+     * Convert a list into a {@link LinkedHashMap} in parallel, like
+     * {@link #asHashMap(List, ListExtractor, DuplicateKeyPolicy)}. The list is split into
+     * ranges that are converted into partial maps by fork-join tasks of the common pool
+     * and merged in encounter order, so the result equals the sequential one.
+     *
+     * @param <K> Type of list key
+     * @param <V> Type of list value
+     * @param list The list to convert, lists without {@link RandomAccess} are copied first
+     * @param extractor To determine key and value for each list entry, must be thread-safe
+     * @param policy How to handle elements with the same key
+     * @return A created {@link LinkedHashMap} or an empty map when the list or the
+     * extractor is {@literal null}
+     * @throws IllegalStateException if the policy is {@link DuplicateKeyPolicy#FAIL} and
+     * a key occurs twice
+     */
+    public static <K, V> Map<K, V> asHashMapParallel(List<V> list, ListExtractor<K, V> extractor, DuplicateKeyPolicy policy) {
+        return asMapParallel(list, extractor, policy, true);
+    }
+
+    /**
+     * Convert a list into a {@link HashMap} in parallel, without keeping the encounter
+     * order of the keys. Partial maps are merged smaller into larger, which is cheaper than
+     * {@link #asHashMapParallel(List, ListExtractor, DuplicateKeyPolicy)}. Which value
+     * wins for duplicate keys still follows the encounter order.
+     *
+     * @param <K> Type of list key
+     * @param <V> Type of list value
+     * @param list The list to convert, lists without {@link RandomAccess} are copied first
+     * @param extractor To determine key and value for each list entry, must be thread-safe
+     * @param policy How to handle elements with the same key
+     * @return A created {@link HashMap} or an empty map when the list or the extractor is
+     * {@literal null}
+     * @throws IllegalStateException if the policy is {@link DuplicateKeyPolicy#FAIL} and
+     * a key occurs twice
+     */
+    public static <K, V> Map<K, V> asUnorderedHashMapParallel(List<V> list, ListExtractor<K, V> extractor, DuplicateKeyPolicy policy) {
+        return asMapParallel(list, extractor, policy, false);
+    }
+
+    private static <K, V> Map<K, V> asMapParallel(List<V> list, ListExtractor<K, V> extractor, DuplicateKeyPolicy policy, boolean ordered) {
+        if (list == null || extractor == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        var threshold = Math.max(MIN_PARALLEL_SIZE, size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        return new AsMapTask<>(elements, extractor, policy, ordered, 0, size, threshold).invoke();
+    }
+
+    /* Converts a range of the list, ranges above the threshold are split in halves. */
+    private static final class AsMapTask<K, V> extends RecursiveTask<Map<K, V>> {
+
+        private final transient List<V> list;
+        private final transient ListExtractor<K, V> extractor;
+        private final DuplicateKeyPolicy policy;
+        private final boolean ordered;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private AsMapTask(List<V> list, ListExtractor<K, V> extractor, DuplicateKeyPolicy policy, boolean ordered, int from, int to, int threshold) {
+            this.list = list;
+            this.extractor = extractor;
+            this.policy = policy;
+            this.ordered = ordered;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Map<K, V> compute() {
+            if (to - from <= threshold) {
+                Map<K, V> map = ordered ? LinkedHashMap.newLinkedHashMap(to - from) : HashMap.newHashMap(to - from);
+                for (int i = from; i < to; i++) {
+                    var node = list.get(i);
+                    put(map, extractor.extractKey(node), extractor.extractValue(node), policy);
+                }
+                return map;
+            }
+            var middle = (from + to) >>> 1;
+            var right = new AsMapTask<>(list, extractor, policy, ordered, middle, to, threshold);
+            right.fork();
+            var leftMap = new AsMapTask<>(list, extractor, policy, ordered, from, middle, threshold).compute();
+            var rightMap = right.join();
+            if (!ordered && rightMap.size() > leftMap.size()) {
+                // Entries of the left map come first in encounter order, so the policy is reversed
+                var reversed = switch (policy) {
+                    case FIRST_WINS -> DuplicateKeyPolicy.LAST_WINS;
+                    case LAST_WINS -> DuplicateKeyPolicy.FIRST_WINS;
+                    case FAIL -> DuplicateKeyPolicy.FAIL;
+                };
+                leftMap.forEach((k, v) -> put(rightMap, k, v, reversed));
+                return rightMap;
+            }
+            rightMap.forEach((k, v) -> put(leftMap, k, v, policy));
+            return leftMap;
+        }
+
+        private static <K, V> void put(Map<K, V> map, K key, V value, DuplicateKeyPolicy policy) {
+            switch (policy) {
+                case LAST_WINS -> map.put(key, value);
+                case FIRST_WINS -> map.putIfAbsent(key, value);
+                case FAIL -> {
+                    if (map.containsKey(key)) {
+                        throw new IllegalStateException(format("Duplicate key [%s]", key));
+                    }
+                    map.put(key, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Index the elements of a list by the key a {@link ListExtractor} determines. If more
+     * than one element has the same key, the last one wins.
+     *
+     * @param <K> Type of key
+     * @param <E> Type of list elements
+     * @param list The list to index
+     * @param extractor To determine the key of each element, the value is not used
+     * @return A {@link HashMap} of the elements by key or an empty map when one of the
+     * arguments is {@literal null}
+     */
+    public static <K, E> Map<K, E> indexBy(List<E> list, ListExtractor<K, ?> extractor) {
+        if (list == null || extractor == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<K, E> map = HashMap.newHashMap(list.size());
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                var element = list.get(i);
+                map.put(extractor.extractKey(element), element);
+            }
+        } else {
+            for (E element : list) {
+                map.put(extractor.extractKey(element), element);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Index the elements of a list by the key a function determines. If more than one
+     * element has the same key, the last one wins.
+     *
+     * @param <K> Type of key
+     * @param <E> Type of list elements
+     * @param list The list to index
+     * @param keyFunction To determine the key of each element
+     * @return A {@link HashMap} of the elements by key or an empty map when one of the
+     * arguments is {@literal null}
+     */
+    public static <K, E> Map<K, E> indexBy(List<E> list, Function<? super E, ? extends K> keyFunction) {
+        if (list == null || keyFunction == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        Map<K, E> map = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            var element = elements.get(i);
+            map.put(keyFunction.apply(element), element);
+        }
+        return map;
+    }
+
+    /**
+     * Index the elements of a list by a primitive {@code long} key into a
+     * {@link LongObjectMap}, without boxing the keys.
+     *
+     * @param <E> Type of list elements
+     * @param list The list to index
+     * @param keyExtractor To determine the key of each element
+     * @param policy How to handle elements with the same key
+     * @return A new map, empty when the list is {@literal null}
+     * @throws IllegalStateException if the policy is {@link DuplicateKeyPolicy#FAIL} and
+     * a key occurs twice
+     */
+    public static <E> LongObjectMap<E> indexByLong(List<E> list, ToLongFunction<? super E> keyExtractor, DuplicateKeyPolicy policy) {
+        if (list == null || list.isEmpty()) {
+            return new LongObjectMap<>(0);
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        var map = new LongObjectMap<E>(size);
+        for (int i = 0; i < size; i++) {
+            var element = elements.get(i);
+            var key = keyExtractor.applyAsLong(element);
+            var existing = policy == DuplicateKeyPolicy.LAST_WINS ? map.put(key, element) : map.putIfAbsent(key, element);
+            if (existing != null && policy == DuplicateKeyPolicy.FAIL) {
+                throw new IllegalStateException(format("Duplicate key [%d]", key));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Index a list of persisted {@link DomainObject}s by their primary keys. If more than
+     * one object has the same key, the last one wins.
+     *
+     * @param <V> Type of DomainObjects
+     * @param list The list to index
+     * @return A new map, empty when the list is {@literal null}
+     * @throws IllegalArgumentException if an object has no primary key yet
+     */
+    public static <V extends DomainObject<Long>> LongObjectMap<V> indexById(List<V> list) {
+        return indexById(list, DuplicateKeyPolicy.LAST_WINS);
+    }
+
+    /**
+     * Index a list of persisted {@link DomainObject}s by their primary keys.
+     *
+     * @param <V> Type of DomainObjects
+     * @param list The list to index
+     * @param policy How to handle objects with the same key
+     * @return A new map, empty when the list is {@literal null}
+     * @throws IllegalArgumentException if an object has no primary key yet
+     * @throws IllegalStateException if the policy is {@link DuplicateKeyPolicy#FAIL} and
+     * a key occurs twice
+     */
+    public static <V extends DomainObject<Long>> LongObjectMap<V> indexById(List<V> list, DuplicateKeyPolicy policy) {
+        return indexByLong(list, CollectionUtil::primaryKey, policy);
+    }
+
+    private static long primaryKey(DomainObject<Long> domainObject) {
+        var id = domainObject.getId();
+        if (id == null) {
+            throw new IllegalArgumentException(format("The DomainObject [%s] has no primary key and cannot be indexed", domainObject));
+        }
+        return id;
+    }
+
+    /**
+     * Group the values a {@link ListExtractor} determines for the elements of a list by
+     * their keys. The groups keep the order of the list and are created in the order the
+     * keys occur first. The key of each element is extracted twice, once to count the
+     * group sizes and once to fill the exactly sized groups.
+     *
+     * @param <K> Type of key
+     * @param <V> Type of value
+     * @param list The list to group
+     * @param extractor To determine key and value for each element
+     * @return A {@link LinkedHashMap} of the groups or an empty map when one of the
+     * arguments is {@literal null}
+     */
+    public static <K, V> Map<K, List<V>> groupBy(List<?> list, ListExtractor<K, V> extractor) {
+        if (list == null || extractor == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        var counts = new HashMap<K, int[]>();
+        for (int i = 0; i < size; i++) {
+            counts.computeIfAbsent(extractor.extractKey(elements.get(i)), k -> new int[1])[0]++;
+        }
+        Map<K, List<V>> map = LinkedHashMap.newLinkedHashMap(counts.size());
+        for (int i = 0; i < size; i++) {
+            var element = elements.get(i);
+            var key = extractor.extractKey(element);
+            var group = map.get(key);
+            if (group == null) {
+                group = new ArrayList<>(counts.get(key)[0]);
+                map.put(key, group);
+            }
+            group.add(extractor.extractValue(element));
+        }
+        return map;
+    }
+
+    /**
+     * Group the values a {@link KeyValueExtractor} determines for the elements of a list
+     * by their keys, like {@link #groupBy(List, ListExtractor)}.
+     *
+     * @param <E> Type of list elements
+     * @param <K> Type of key
+     * @param <V> Type of value
+     * @param list The list to group
+     * @param extractor To determine key and value for each element
+     * @return A {@link LinkedHashMap} of the groups or an empty map when one of the
+     * arguments is {@literal null}
+     */
+    public static <E, K, V> Map<K, List<V>> groupBy(List<E> list, KeyValueExtractor<E, K, V> extractor) {
+        if (list == null || extractor == null || list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        var counts = new HashMap<K, int[]>();
+        for (int i = 0; i < size; i++) {
+            counts.computeIfAbsent(extractor.key(elements.get(i)), k -> new int[1])[0]++;
+        }
+        Map<K, List<V>> map = LinkedHashMap.newLinkedHashMap(counts.size());
+        for (int i = 0; i < size; i++) {
+            var element = elements.get(i);
+            var key = extractor.key(element);
+            var group = map.get(key);
+            if (group == null) {
+                group = new ArrayList<>(counts.get(key)[0]);
+                map.put(key, group);
+            }
+            group.add(extractor.value(element));
+        }
+        return map;
+    }
+
+    /**
+     * Split a list into the elements that match a predicate and those that do not. Both
+     * lists keep the order of the list and are sized exactly.
+     *
+     * @param <E> Type of list elements
+     * @param list The list to split
+     * @param predicate The predicate each element is tested against once
+     * @return A map with the matching elements by {@literal true} and the others by
+     * {@literal false}, both lists are empty when one of the arguments is {@literal null}
+     */
+    public static <E> Map<Boolean, List<E>> partition(List<E> list, Predicate<? super E> predicate) {
+        if (list == null || predicate == null || list.isEmpty()) {
+            return Map.of(true, Collections.emptyList(), false, Collections.emptyList());
+        }
+        var elements = randomAccess(list);
+        var size = elements.size();
+        var matches = new boolean[size];
+        var matching = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(elements.get(i))) {
+                matches[i] = true;
+                matching++;
+            }
+        }
+        var accepted = new ArrayList<E>(matching);
+        var rejected = new ArrayList<E>(size - matching);
+        for (int i = 0; i < size; i++) {
+            (matches[i] ? accepted : rejected).add(elements.get(i));
+        }
+        return Map.of(true, accepted, false, rejected);
+    }
+
+    /**
+     * Split a list into consecutive chunks of the given size, the last chunk may be
+     * smaller. Lists with {@link RandomAccess} are not copied, the chunks are views of
+     * the list then.
+     *
+     * @param <E> Type of list elements
+     * @param list The list to split
+     * @param chunkSize The maximum size of each chunk
+     * @return The chunks or an empty list if the list is {@literal null}
+     * @throws IllegalArgumentException if the chunk size is less than 1
+     */
+    public static <E> List<List<E>> chunk(List<E> list, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(format("The chunk size must be at least 1 but is [%d]", chunkSize));
+        }
+        if (list == null || list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        var size = list.size();
+        var result = new ArrayList<List<E>>((size + chunkSize - 1) / chunkSize);
+        if (list instanceof RandomAccess) {
+            for (int from = 0; from < size; from += chunkSize) {
+                result.add(list.subList(from, Math.min(from + chunkSize, size)));
+            }
+        } else {
+            var chunk = new ArrayList<E>(Math.min(chunkSize, size));
+            for (E element : list) {
+                chunk.add(element);
+                if (chunk.size() == chunkSize) {
+                    result.add(chunk);
+                    chunk = new ArrayList<>(Math.min(chunkSize, size - result.size() * chunkSize));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                result.add(chunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Pass the elements of a collection in consecutive batches of the given size to a
+     * consumer, e.g. to save them in transactions of limited size. Batches of lists with
+     * {@link RandomAccess} are views of the list, otherwise one buffer is reused for all
+     * batches, so the consumer must not keep a reference to a batch.
+     *
+     * @param <E> Type of elements
+     * @param collection The elements to pass, nothing happens if {@literal null}
+     * @param batchSize The maximum size of each batch
+     * @param consumer Called once per batch
+     * @throws IllegalArgumentException if the batch size is less than 1
+     */
+    public static <E> void batch(Collection<E> collection, int batchSize, Consumer<? super List<E>> consumer) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(format("The batch size must be at least 1 but is [%d]", batchSize));
+        }
+        if (collection == null || collection.isEmpty()) {
+            return;
+        }
+        if (collection instanceof List<E> list && list instanceof RandomAccess) {
+            for (int from = 0, size = list.size(); from < size; from += batchSize) {
+                consumer.accept(list.subList(from, Math.min(from + batchSize, size)));
+            }
+            return;
+        }
+        var buffer = new ArrayList<E>(Math.min(batchSize, collection.size()));
+        for (E element : collection) {
+            buffer.add(element);
+            if (buffer.size() == batchSize) {
+                consumer.accept(buffer);
+                buffer.clear();
+            }
+        }
+        if (!buffer.isEmpty()) {
+            consumer.accept(buffer);
+        }
+    }
+
+    /* Lists without RandomAccess are copied once, so that they can be walked by index more than once. */
+    private static <E> List<E> randomAccess(List<E> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+}
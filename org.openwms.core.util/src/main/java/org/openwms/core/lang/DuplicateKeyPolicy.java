@@ -0,0 +1,35 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.lang;
+
+/**
+ * A DuplicateKeyPolicy defines how to handle elements with the same key when a list is
+ * converted into a map.
+ *
+ * @author Heiko Scherrer
+ * @see CollectionUtil
+ */
+public enum DuplicateKeyPolicy {
+
+    /** The value of the first element in encounter order is kept. */
+    FIRST_WINS,
+
+    /** The value of the last element in encounter order is kept. */
+    LAST_WINS,
+
+    /** An {@link IllegalStateException} is thrown. */
+    FAIL
+}
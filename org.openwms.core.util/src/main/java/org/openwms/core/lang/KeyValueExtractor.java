@@ -0,0 +1,177 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.lang;
+
+import org.ameba.exception.TechnicalRuntimeException;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * A KeyValueExtractor is the type-safe counterpart of the {@link ListExtractor}: it
+ * extracts the key and the value of list elements of a known type with two plain
+ * {@link Function}s, so it can be built from lambdas, method references or record
+ * components without unchecked casts.
+ * <p>
+ * The {@link CollectionUtil} methods that accept a KeyValueExtractor are small enough to
+ * be inlined into their callers. Where the extractor is a constant, e.g. a
+ * {@code static final} field, the JIT then knows the exact function types and inlines
+ * them as well, instead of dispatching to generic methods of many implementations.
+ * </p>
+ *
+ * @param keyFunction Extracts the key of an element
+ * @param valueFunction Extracts the value of an element
+ * @param <E> Type of list elements
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ * @author Heiko Scherrer
+ */
+public record KeyValueExtractor<E, K, V>(Function<? super E, ? extends K> keyFunction, Function<? super E, ? extends V> valueFunction) {
+
+    /**
+     * Create a KeyValueExtractor.
+     *
+     * @param keyFunction Extracts the key of an element
+     * @param valueFunction Extracts the value of an element
+     */
+    public KeyValueExtractor {
+        Objects.requireNonNull(keyFunction, "The keyFunction must not be null");
+        Objects.requireNonNull(valueFunction, "The valueFunction must not be null");
+    }
+
+    /**
+     * Create a KeyValueExtractor from two functions.
+     *
+     * @param keyFunction Extracts the key of an element
+     * @param valueFunction Extracts the value of an element
+     * @param <E> Type of list elements
+     * @param <K> Type of keys
+     * @param <V> Type of values
+     * @return The instance
+     */
+    public static <E, K, V> KeyValueExtractor<E, K, V> of(Function<? super E, ? extends K> keyFunction, Function<? super E, ? extends V> valueFunction) {
+        return new KeyValueExtractor<>(keyFunction, valueFunction);
+    }
+
+    /**
+     * Create a KeyValueExtractor that uses the element itself as value.
+     *
+     * @param keyFunction Extracts the key of an element
+     * @param <E> Type of list elements
+     * @param <K> Type of keys
+     * @return The instance
+     */
+    public static <E, K> KeyValueExtractor<E, K, E> byKey(Function<? super E, ? extends K> keyFunction) {
+        return new KeyValueExtractor<>(keyFunction, Function.identity());
+    }
+
+    /**
+     * Adapt an existing {@link ListExtractor}.
+     *
+     * @param extractor The extractor to delegate to
+     * @param <E> Type of list elements
+     * @param <K> Type of keys
+     * @param <V> Type of values
+     * @return The instance
+     */
+    public static <E, K, V> KeyValueExtractor<E, K, V> of(ListExtractor<K, V> extractor) {
+        Objects.requireNonNull(extractor, "The extractor must not be null");
+        return new KeyValueExtractor<>(extractor::extractKey, extractor::extractValue);
+    }
+
+    /**
+     * Create a KeyValueExtractor that reads two components of a record. The accessors are
+     * looked up once and bound to generated functions.
+     *
+     * @param recordType The type of record
+     * @param keyComponent The name of the component used as key
+     * @param valueComponent The name of the component used as value
+     * @param <R> Type of records
+     * @param <K> Type of keys
+     * @param <V> Type of values
+     * @return The instance
+     * @throws IllegalArgumentException if a component does not exist
+     */
+    public static <R extends Record, K, V> KeyValueExtractor<R, K, V> ofRecord(Class<R> recordType, String keyComponent, String valueComponent) {
+        return new KeyValueExtractor<>(accessor(recordType, keyComponent), accessor(recordType, valueComponent));
+    }
+
+    /**
+     * Extract the key of an element.
+     *
+     * @param element The element
+     * @return The key
+     */
+    public K key(E element) {
+        return keyFunction.apply(element);
+    }
+
+    /**
+     * Extract the value of an element.
+     *
+     * @param element The element
+     * @return The value
+     */
+    public V value(E element) {
+        return valueFunction.apply(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R extends Record, T> Function<R, T> accessor(Class<R> recordType, String name) {
+        var component = Arrays.stream(recordType.getRecordComponents())
+                .filter(c -> c.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(format("The record [%s] has no component [%s]", recordType.getName(), name)));
+        MethodHandle handle;
+        try {
+            var accessor = component.getAccessor();
+            accessor.trySetAccessible();
+            handle = MethodHandles.lookup().unreflect(accessor);
+        } catch (IllegalAccessException e) {
+            throw new TechnicalRuntimeException(format("The component [%s] of record [%s] is not accessible", name, recordType.getName()), e);
+        }
+        try {
+            var callSite = LambdaMetafactory.metafactory(
+                    MethodHandles.lookup(),
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap().changeReturnType(Object.class)
+            );
+            return (Function<R, T>) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            // Accessors of records that are not visible from here are still called through the handle
+            var generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return r -> {
+                try {
+                    return (T) generic.invokeExact((Object) r);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new TechnicalRuntimeException(ex.getMessage(), ex);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static java.lang.String.format;
+
+/**
+ * A LongObjectMap is a hash map with primitive {@code long} keys, meant for large caches
+ * of entities by their numeric primary key. Keys and values are stored in two arrays with
+ * open addressing and linear probing, so neither keys are boxed nor entry objects are
+ * created, and a lookup mostly touches a single cache line of the key array.
+ * <p>
+ * The key {@code 0} marks free slots in the key array and is stored aside. Removal shifts
+ * subsequent entries back instead of leaving tombstones, so lookups stay fast after many
+ * removals. A LongObjectMap is not thread-safe and does not permit {@literal null} values.
+ * </p>
+ *
+ * @param <V> Type of values
+ * @author Heiko Scherrer
+ */
+public class LongObjectMap<V> {
+
+    /** The maximum ratio of used slots before the arrays are doubled. */
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private V zeroValue;
+
+    /**
+     * An EntryConsumer is called for each entry of the map.
+     *
+     * @param <V> Type of values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Called for an entry.
+         *
+         * @param key The key
+         * @param value The value
+         */
+        void accept(long key, V value);
+    }
+
+    /**
+     * Create an empty LongObjectMap.
+     */
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Create an empty LongObjectMap that holds the expected number of entries without
+     * resizing.
+     *
+     * @param expectedSize The number of entries
+     * @throws IllegalArgumentException if the expected size is negative or too large
+     */
+    public LongObjectMap(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAXIMUM_CAPACITY * LOAD_FACTOR) {
+            throw new IllegalArgumentException(format("The expected size [%d] is out of range", expectedSize));
+        }
+        allocate(Math.max(2, Integer.highestOneBit((int) Math.ceil(expectedSize / LOAD_FACTOR) - 1) << 1));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    /* Spread the bits, sequential IDs would otherwise fill clusters of adjacent slots */
+    private static int hash(long key) {
+        var h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+
+    private int indexOf(long key) {
+        for (int i = hash(key) & mask; ; i = i + 1 & mask) {
+            var k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Return the value of a key.
+     *
+     * @param key The key
+     * @return The value or {@literal null} if the key is not present
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        var i = indexOf(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    /**
+     * Return the value of a key or a default value.
+     *
+     * @param key The key
+     * @param defaultValue Returned if the key is not present
+     * @return The value or the default value
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        var value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Check whether a key is present.
+     *
+     * @param key The key
+     * @return {@literal true} if present
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? zeroValue != null : indexOf(key) >= 0;
+    }
+
+    /**
+     * Associate a value with a key, an existing value is replaced.
+     *
+     * @param key The key
+     * @param value The value, not {@literal null}
+     * @return The former value or {@literal null}
+     */
+    public V put(long key, V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * Associate a value with a key if the key is not present yet.
+     *
+     * @param key The key
+     * @param value The value, not {@literal null}
+     * @return The existing value or {@literal null} if the value has been added
+     */
+    public V putIfAbsent(long key, V value) {
+        return put(key, value, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V put(long key, V value, boolean replace) {
+        if (value == null) {
+            throw new IllegalArgumentException(format("The value of key [%d] must not be null", key));
+        }
+        if (key == 0) {
+            var old = zeroValue;
+            if (old == null) {
+                size++;
+            }
+            if (old == null || replace) {
+                zeroValue = value;
+            }
+            return old;
+        }
+        int i = hash(key) & mask;
+        for (long k; (k = keys[i]) != 0; i = i + 1 & mask) {
+            if (k == key) {
+                var old = (V) values[i];
+                if (replace) {
+                    values[i] = value;
+                }
+                return old;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("The map cannot grow any further");
+        }
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            var key = oldKeys[j];
+            if (key != 0) {
+                int i = hash(key) & mask;
+                while (keys[i] != 0) {
+                    i = i + 1 & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key The key
+     * @return The removed value or {@literal null} if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            var old = zeroValue;
+            if (old != null) {
+                zeroValue = null;
+                size--;
+            }
+            return old;
+        }
+        var i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        var old = (V) values[i];
+        size--;
+        // Shift back following entries of the cluster that would not be found behind the gap
+        for (int gap = i, j = i + 1 & mask; ; j = j + 1 & mask) {
+            var k = keys[j];
+            if (k == 0) {
+                keys[gap] = 0;
+                values[gap] = null;
+                return old;
+            }
+            var home = hash(k) & mask;
+            if ((j - home & mask) >= (j - gap & mask)) {
+                keys[gap] = k;
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+    }
+
+    /**
+     * Return the number of entries.
+     *
+     * @return The size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether the map is empty.
+     *
+     * @return {@literal true} if no entries exist
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all entries, the capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Call the consumer for each entry, in no particular order.
+     *
+     * @param consumer Called with key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        if (zeroValue != null) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Return all keys, in no particular order.
+     *
+     * @return A new array of the keys
+     */
+    public long[] keys() {
+        var result = new long[size];
+        var n = 0;
+        if (zeroValue != null) {
+            result[n++] = 0;
+        }
+        for (var key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return all values, in no particular order.
+     *
+     * @return A new collection of the values
+     */
+    public Collection<V> values() {
+        var result = new ArrayList<V>(size);
+        forEach((k, v) -> result.add(v));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("{");
+        forEach((k, v) -> sb.append(sb.length() > 1 ? ", " : "").append(k).append('=').append(v));
+        return sb.append('}').toString();
+    }
+}
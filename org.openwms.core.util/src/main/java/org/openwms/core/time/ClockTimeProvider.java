@@ -0,0 +1,262 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A ClockTimeProvider is a {@link TimeProvider} that reads the current time from a single
+ * {@link InstantSource} and resolves it against a {@link ZoneId} whose {@link ZoneRules}
+ * are looked up once at construction. No {@link LocalDateTime} is built and converted back
+ * and no zone is parsed per call.
+ * <p>
+ * In ticker mode the instant is not read from the source on each call but refreshed by a
+ * timer thread in a fixed interval. Callers then get a value that is at most one interval
+ * old, for the cost of a volatile read. As Spring bean it is activated with the property
+ * {@value #PROPERTY_NAME}={@literal true} and the ticker interval is configured in
+ * milliseconds with {@value #TICK_PROPERTY_NAME}, where {@literal 0} disables the ticker.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+@ConditionalOnProperty(name = ClockTimeProvider.PROPERTY_NAME, havingValue = "true")
+@Component(value = ClockTimeProvider.COMPONENT_NAME)
+public class ClockTimeProvider implements TimeProvider, InstantSource, DisposableBean {
+
+    /** Springs service name. */
+    public static final String COMPONENT_NAME = "clockTimeProvider";
+    /** The property to activate this provider. */
+    public static final String PROPERTY_NAME = "owms.core.time.clock-provider.enabled";
+    /** The property to define the ticker interval in milliseconds. */
+    public static final String TICK_PROPERTY_NAME = "owms.core.time.clock-provider.tick-millis";
+    private final InstantSource source;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final Ticker ticker;
+
+    /**
+     * Create a provider that reads the system clock and resolves the system default zone.
+     */
+    public ClockTimeProvider() {
+        this(Clock.systemUTC(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Create a provider that reads the system clock and resolves the system default zone.
+     *
+     * @param tickMillis The ticker interval in milliseconds, {@literal 0} to read the
+     * clock on each call
+     */
+    @Autowired
+    public ClockTimeProvider(@Value("${" + TICK_PROPERTY_NAME + ":0}") long tickMillis) {
+        this(Clock.systemUTC(), ZoneId.systemDefault(), Duration.ofMillis(tickMillis));
+    }
+
+    /**
+     * Create a provider that reads the given clock and resolves the zone of the clock.
+     *
+     * @param clock The clock to read
+     */
+    public ClockTimeProvider(Clock clock) {
+        this(clock, clock.getZone());
+    }
+
+    /**
+     * Create a provider that reads the given source on each call.
+     *
+     * @param source The source to read
+     * @param zone The zone to resolve the current date and time
+     */
+    public ClockTimeProvider(InstantSource source, ZoneId zone) {
+        this(source, zone, Duration.ZERO);
+    }
+
+    /**
+     * Create a provider that reads the given source, either on each call or in ticker
+     * mode.
+     *
+     * @param source The source to read
+     * @param zone The zone to resolve the current date and time
+     * @param tickInterval The ticker interval, {@link Duration#ZERO} to read the source on
+     * each call
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    public ClockTimeProvider(InstantSource source, ZoneId zone, Duration tickInterval) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(zone, "zone must not be null");
+        if (tickInterval.isNegative()) {
+            throw new IllegalArgumentException("The tick interval must not be negative");
+        }
+        this.zone = zone;
+        this.rules = zone.getRules();
+        if (tickInterval.isZero()) {
+            this.ticker = null;
+            this.source = source;
+        } else {
+            this.ticker = new Ticker(source, tickInterval);
+            this.source = ticker;
+        }
+    }
+
+    /**
+     * Return the zone the current date and time is resolved against.
+     *
+     * @return The zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Check whether the provider runs in ticker mode.
+     *
+     * @return {@literal true} if the instant is refreshed by a timer
+     */
+    public boolean isTicking() {
+        return ticker != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant instant() {
+        return source.instant();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long millis() {
+        return source.millis();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Date nowAsCurrentDate() {
+        return new Date(source.millis());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Date nowAsZuluDate() {
+        return new Date(source.millis());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ZonedDateTime nowAsCurrentZonedDateTime() {
+        var instant = source.instant();
+        var offset = rules.getOffset(instant);
+        return ZonedDateTime.ofInstant(LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset), offset, zone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ZonedDateTime nowAsZuluZonedDateTime() {
+        return ZonedDateTime.ofInstant(source.instant(), ZoneOffset.UTC);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ZonedDateTime nowAsZonedDateTime(ZoneId zoneId) {
+        return zone.equals(zoneId) ? nowAsCurrentZonedDateTime() : ZonedDateTime.ofInstant(source.instant(), zoneId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant nowAsCurrentInstant() {
+        return source.instant();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant nowAsZuluInstant() {
+        return source.instant();
+    }
+
+    /**
+     * Stop the timer thread in ticker mode.
+     */
+    @Override
+    public void destroy() {
+        if (ticker != null) {
+            ticker.close();
+        }
+    }
+
+    private static final class Ticker implements InstantSource {
+
+        private final InstantSource source;
+        private final ScheduledExecutorService timer;
+        private volatile Instant current;
+
+        Ticker(InstantSource source, Duration interval) {
+            this.source = source;
+            this.current = source.instant();
+            this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("owms-time-ticker").daemon(true).factory());
+            var nanos = interval.toNanos();
+            timer.scheduleAtFixedRate(this::tick, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void tick() {
+            current = source.instant();
+        }
+
+        @Override
+        public Instant instant() {
+            return current;
+        }
+
+        void close() {
+            timer.shutdownNow();
+        }
+    }
+}
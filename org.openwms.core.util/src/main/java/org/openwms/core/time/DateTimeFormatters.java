@@ -0,0 +1,372 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.openwms.core.time.TimeProvider.DATE_FORMAT;
+import static org.openwms.core.time.TimeProvider.DATE_TIME_FORMAT;
+import static org.openwms.core.time.TimeProvider.DATE_TIME_MILLIS_FORMAT;
+import static org.openwms.core.time.TimeProvider.DATE_TIME_MILLIS_WITH_TIMEZONE_FORMAT;
+import static org.openwms.core.time.TimeProvider.DATE_TIME_WITH_TIMEZONE_FORMAT;
+
+/**
+ * A DateTimeFormatters is the registry of precompiled and thread-safe
+ * {@link DateTimeFormatter}s for the format patterns defined in {@link TimeProvider}.
+ * <p>
+ * The fixed-width patterns {@value TimeProvider#DATE_FORMAT},
+ * {@value TimeProvider#DATE_TIME_FORMAT} and {@value TimeProvider#DATE_TIME_MILLIS_FORMAT}
+ * can also be written into a {@link StringBuilder} or a {@code byte[]} and parsed from a
+ * {@link CharSequence} or a {@code byte[]} without creating intermediate Strings, with the
+ * same results as the formatters. Years outside of 1 to 9999 and values the formatters
+ * would have to resolve or reject are passed to the formatters.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+public final class DateTimeFormatters {
+
+    /** Formatter for {@value TimeProvider#DATE_FORMAT}. */
+    public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    /** Formatter for {@value TimeProvider#DATE_TIME_FORMAT}. */
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT);
+    /** Formatter for {@value TimeProvider#DATE_TIME_MILLIS_FORMAT}. */
+    public static final DateTimeFormatter DATE_TIME_MILLIS = DateTimeFormatter.ofPattern(DATE_TIME_MILLIS_FORMAT);
+    /** Formatter for {@value TimeProvider#DATE_TIME_WITH_TIMEZONE_FORMAT}. */
+    public static final DateTimeFormatter DATE_TIME_WITH_TIMEZONE = DateTimeFormatter.ofPattern(DATE_TIME_WITH_TIMEZONE_FORMAT);
+    /** Formatter for {@value TimeProvider#DATE_TIME_MILLIS_WITH_TIMEZONE_FORMAT}. */
+    public static final DateTimeFormatter DATE_TIME_MILLIS_WITH_TIMEZONE = DateTimeFormatter.ofPattern(DATE_TIME_MILLIS_WITH_TIMEZONE_FORMAT);
+    /** Length of a formatted {@value TimeProvider#DATE_FORMAT}. */
+    public static final int DATE_LENGTH = 10;
+    /** Length of a formatted {@value TimeProvider#DATE_TIME_FORMAT}. */
+    public static final int DATE_TIME_LENGTH = 19;
+    /** Length of a formatted {@value TimeProvider#DATE_TIME_MILLIS_FORMAT}. */
+    public static final int DATE_TIME_MILLIS_LENGTH = 23;
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000};
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>(Map.of(
+            DATE_FORMAT, DATE,
+            DATE_TIME_FORMAT, DATE_TIME,
+            DATE_TIME_MILLIS_FORMAT, DATE_TIME_MILLIS,
+            DATE_TIME_WITH_TIMEZONE_FORMAT, DATE_TIME_WITH_TIMEZONE,
+            DATE_TIME_MILLIS_WITH_TIMEZONE_FORMAT, DATE_TIME_MILLIS_WITH_TIMEZONE
+    ));
+
+    private DateTimeFormatters() {
+    }
+
+    /**
+     * Return the formatter of a pattern. Formatters of patterns other than the ones
+     * defined in {@link TimeProvider} are compiled once and cached.
+     *
+     * @param pattern The format pattern
+     * @return The formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter of(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * Append a temporal formatted with the formatter of the pattern.
+     *
+     * @param pattern The format pattern
+     * @param temporal The temporal to format
+     * @param sb The builder to append to
+     * @return The builder
+     */
+    public static StringBuilder append(String pattern, TemporalAccessor temporal, StringBuilder sb) {
+        of(pattern).formatTo(temporal, sb);
+        return sb;
+    }
+
+    /**
+     * Append a date in the format {@value TimeProvider#DATE_FORMAT}.
+     *
+     * @param date The date to format
+     * @param sb The builder to append to
+     * @return The builder
+     */
+    public static StringBuilder appendDate(LocalDate date, StringBuilder sb) {
+        if (!isFourDigitYear(date.getYear())) {
+            DATE.formatTo(date, sb);
+            return sb;
+        }
+        sb.ensureCapacity(sb.length() + DATE_LENGTH);
+        return appendDigits(date, sb);
+    }
+
+    /**
+     * Append a date-time in the format {@value TimeProvider#DATE_TIME_FORMAT}.
+     *
+     * @param dateTime The date-time to format
+     * @param sb The builder to append to
+     * @return The builder
+     */
+    public static StringBuilder appendDateTime(LocalDateTime dateTime, StringBuilder sb) {
+        if (!isFourDigitYear(dateTime.getYear())) {
+            DATE_TIME.formatTo(dateTime, sb);
+            return sb;
+        }
+        sb.ensureCapacity(sb.length() + DATE_TIME_LENGTH);
+        return appendDigits(dateTime, sb);
+    }
+
+    /**
+     * Append a date-time in the format {@value TimeProvider#DATE_TIME_MILLIS_FORMAT}.
+     *
+     * @param dateTime The date-time to format
+     * @param sb The builder to append to
+     * @return The builder
+     */
+    public static StringBuilder appendDateTimeMillis(LocalDateTime dateTime, StringBuilder sb) {
+        if (!isFourDigitYear(dateTime.getYear())) {
+            DATE_TIME_MILLIS.formatTo(dateTime, sb);
+            return sb;
+        }
+        sb.ensureCapacity(sb.length() + DATE_TIME_MILLIS_LENGTH);
+        appendDigits(dateTime, sb).append('.');
+        return appendDigits(dateTime.getNano() / 1_000_000, 3, sb);
+    }
+
+    /**
+     * Write a date in the format {@value TimeProvider#DATE_FORMAT} as ASCII bytes.
+     *
+     * @param date The date to format
+     * @param dst The array to write to
+     * @param offset The first index to write to
+     * @return The index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    public static int writeDate(LocalDate date, byte[] dst, int offset) {
+        if (!isFourDigitYear(date.getYear())) {
+            return writeAscii(DATE.format(date), dst, offset);
+        }
+        Objects.checkFromIndexSize(offset, DATE_LENGTH, dst.length);
+        writeDigits(date, dst, offset);
+        return offset + DATE_LENGTH;
+    }
+
+    /**
+     * Write a date-time in the format {@value TimeProvider#DATE_TIME_MILLIS_FORMAT} as
+     * ASCII bytes.
+     *
+     * @param dateTime The date-time to format
+     * @param dst The array to write to
+     * @param offset The first index to write to
+     * @return The index after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    public static int writeDateTimeMillis(LocalDateTime dateTime, byte[] dst, int offset) {
+        if (!isFourDigitYear(dateTime.getYear())) {
+            return writeAscii(DATE_TIME_MILLIS.format(dateTime), dst, offset);
+        }
+        Objects.checkFromIndexSize(offset, DATE_TIME_MILLIS_LENGTH, dst.length);
+        writeDigits(dateTime, dst, offset, true);
+        return offset + DATE_TIME_MILLIS_LENGTH;
+    }
+
+    /**
+     * Parse a date in the format {@value TimeProvider#DATE_FORMAT}, with the same result as
+     * {@link #DATE}.
+     *
+     * @param text The text to parse
+     * @return The date
+     * @throws DateTimeParseException if the text can't be parsed
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        var date = text.length() == DATE_LENGTH ? parseDate(new CharSource(text), 0) : null;
+        return date != null ? date : LocalDate.parse(text, DATE);
+    }
+
+    /**
+     * Parse a date-time in the format {@value TimeProvider#DATE_TIME_MILLIS_FORMAT}, with
+     * the same result as {@link #DATE_TIME_MILLIS}.
+     *
+     * @param text The text to parse
+     * @return The date-time
+     * @throws DateTimeParseException if the text can't be parsed
+     */
+    public static LocalDateTime parseDateTimeMillis(CharSequence text) {
+        var dateTime = text.length() == DATE_TIME_MILLIS_LENGTH ? parseDateTimeMillis(new CharSource(text), 0) : null;
+        return dateTime != null ? dateTime : LocalDateTime.parse(text, DATE_TIME_MILLIS);
+    }
+
+    /**
+     * Parse a date in the format {@value TimeProvider#DATE_FORMAT} from ASCII bytes, with
+     * the same result as {@link #DATE}.
+     *
+     * @param src The array to read from
+     * @param offset The first index to read from
+     * @param length The number of bytes to read
+     * @return The date
+     * @throws DateTimeParseException if the bytes can't be parsed
+     */
+    public static LocalDate parseDate(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        var date = length == DATE_LENGTH ? parseDate(new ByteSource(src), offset) : null;
+        return date != null ? date : LocalDate.parse(new String(src, offset, length, StandardCharsets.US_ASCII), DATE);
+    }
+
+    /**
+     * Parse a date-time in the format {@value TimeProvider#DATE_TIME_MILLIS_FORMAT} from
+     * ASCII bytes, with the same result as {@link #DATE_TIME_MILLIS}.
+     *
+     * @param src The array to read from
+     * @param offset The first index to read from
+     * @param length The number of bytes to read
+     * @return The date-time
+     * @throws DateTimeParseException if the bytes can't be parsed
+     */
+    public static LocalDateTime parseDateTimeMillis(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        var dateTime = length == DATE_TIME_MILLIS_LENGTH ? parseDateTimeMillis(new ByteSource(src), offset) : null;
+        return dateTime != null ? dateTime : LocalDateTime.parse(new String(src, offset, length, StandardCharsets.US_ASCII), DATE_TIME_MILLIS);
+    }
+
+    private interface Source {
+
+        int charAt(int index);
+    }
+
+    private record CharSource(CharSequence text) implements Source {
+
+        @Override
+        public int charAt(int index) {
+            return text.charAt(index);
+        }
+    }
+
+    private record ByteSource(byte[] bytes) implements Source {
+
+        @Override
+        public int charAt(int index) {
+            return bytes[index];
+        }
+    }
+
+    /*
+     * The fast parsers only accept values that are valid in all fields and return null
+     * otherwise, so that the formatter resolves or rejects them. Like the SMART resolver of
+     * the formatters, a day beyond the end of the month is set to the last day of the month.
+     */
+    private static LocalDate parseDate(Source src, int offset) {
+        var year = digits(src, offset, 4);
+        var month = digits(src, offset + 5, 2);
+        var day = digits(src, offset + 8, 2);
+        if (src.charAt(offset + 4) != '-' || src.charAt(offset + 7) != '-'
+                || !isFourDigitYear(year) || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        var first = LocalDate.of(year, month, 1);
+        return first.withDayOfMonth(Math.min(day, first.lengthOfMonth()));
+    }
+
+    private static LocalDateTime parseDateTimeMillis(Source src, int offset) {
+        var date = parseDate(src, offset);
+        var hour = digits(src, offset + 11, 2);
+        var minute = digits(src, offset + 14, 2);
+        var second = digits(src, offset + 17, 2);
+        var millis = digits(src, offset + 20, 3);
+        if (date == null || src.charAt(offset + 10) != ' ' || src.charAt(offset + 13) != ':' || src.charAt(offset + 16) != ':'
+                || src.charAt(offset + 19) != '.' || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0) {
+            return null;
+        }
+        return date.atTime(hour, minute, second, millis * 1_000_000);
+    }
+
+    private static int digits(Source src, int offset, int count) {
+        var value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            var c = src.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    private static void writeDigits(LocalDate date, byte[] dst, int offset) {
+        writeDigits(date.getYear(), 4, dst, offset);
+        dst[offset + 4] = '-';
+        writeDigits(date.getMonthValue(), 2, dst, offset + 5);
+        dst[offset + 7] = '-';
+        writeDigits(date.getDayOfMonth(), 2, dst, offset + 8);
+    }
+
+    private static void writeDigits(LocalDateTime dateTime, byte[] dst, int offset, boolean millis) {
+        writeDigits(dateTime.toLocalDate(), dst, offset);
+        dst[offset + 10] = ' ';
+        writeDigits(dateTime.getHour(), 2, dst, offset + 11);
+        dst[offset + 13] = ':';
+        writeDigits(dateTime.getMinute(), 2, dst, offset + 14);
+        dst[offset + 16] = ':';
+        writeDigits(dateTime.getSecond(), 2, dst, offset + 17);
+        if (millis) {
+            dst[offset + 19] = '.';
+            writeDigits(dateTime.getNano() / 1_000_000, 3, dst, offset + 20);
+        }
+    }
+
+    private static void writeDigits(int value, int count, byte[] dst, int offset) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static StringBuilder appendDigits(LocalDate date, StringBuilder sb) {
+        appendDigits(date.getYear(), 4, sb).append('-');
+        appendDigits(date.getMonthValue(), 2, sb).append('-');
+        return appendDigits(date.getDayOfMonth(), 2, sb);
+    }
+
+    private static StringBuilder appendDigits(LocalDateTime dateTime, StringBuilder sb) {
+        appendDigits(dateTime.toLocalDate(), sb).append(' ');
+        appendDigits(dateTime.getHour(), 2, sb).append(':');
+        appendDigits(dateTime.getMinute(), 2, sb).append(':');
+        return appendDigits(dateTime.getSecond(), 2, sb);
+    }
+
+    private static StringBuilder appendDigits(int value, int count, StringBuilder sb) {
+        for (int divisor = POWERS_OF_TEN[count - 1]; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + value / divisor % 10));
+        }
+        return sb;
+    }
+
+    private static int writeAscii(String text, byte[] dst, int offset) {
+        var bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, dst, offset, bytes.length);
+        return offset + bytes.length;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * A VirtualClock is a {@link Clock} whose time is derived from a real
+ * {@link InstantSource} but can be controlled at runtime. The virtual time can run faster
+ * or slower than the real time ({@link #warp(double)}), stand still ({@link #freeze()})
+ * and be moved forward ({@link #step(Duration)}) or set ({@link #set(Instant)}) without
+ * waiting. Time-windowed logic that reads the clock can so be replayed at an accelerated
+ * speed, for instance in load and soak tests.
+ * <p>
+ * Each change rebases the clock on the current real instant, so the virtual time never
+ * jumps back when the speed changes. Clocks created with {@link #withZone(ZoneId)} share
+ * the virtual time with this instance. Use a {@link ClockTimeProvider} to provide the
+ * virtual time as {@link TimeProvider}.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+public class VirtualClock extends Clock {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private final InstantSource source;
+    private final ZoneId zone;
+    private final Control control;
+
+    /**
+     * Create a clock that starts at the current system time in the system default zone
+     * and runs at real speed.
+     */
+    public VirtualClock() {
+        this(Clock.systemUTC(), ZoneId.systemDefault());
+    }
+
+    /**
+     * Create a clock that starts at the current instant of the source and runs at real
+     * speed.
+     *
+     * @param source The real source of time
+     * @param zone The zone of the clock
+     */
+    public VirtualClock(InstantSource source, ZoneId zone) {
+        Objects.requireNonNull(source, "source must not be null");
+        Objects.requireNonNull(zone, "zone must not be null");
+        this.source = source;
+        this.zone = zone;
+        var now = epochNanos(source.instant());
+        this.control = new Control(new State(now, now, 1, 1, false));
+    }
+
+    private VirtualClock(InstantSource source, ZoneId zone, Control control) {
+        this.source = source;
+        this.zone = zone;
+        this.control = control;
+    }
+
+    private record State(long virtualBase, long realBase, double speed, double resumeSpeed, boolean frozen) {
+
+        long virtualAt(long real) {
+            return frozen ? virtualBase : virtualBase + (long) ((real - realBase) * speed);
+        }
+    }
+
+    private static final class Control {
+
+        private volatile State state;
+
+        Control(State state) {
+            this.state = state;
+        }
+    }
+
+    private static long epochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    private long realNanos() {
+        return epochNanos(source.instant());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned clock shares the virtual time with this clock.
+     * </p>
+     */
+    @Override
+    public VirtualClock withZone(ZoneId zone) {
+        return this.zone.equals(zone) ? this : new VirtualClock(source, zone, control);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant instant() {
+        var nanos = control.state.virtualAt(realNanos());
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Return the speed of the virtual time relative to the real time.
+     *
+     * @return The speed, {@literal 0} if the clock is frozen
+     */
+    public double getSpeed() {
+        var state = control.state;
+        return state.frozen ? 0 : state.speed;
+    }
+
+    /**
+     * Check whether the clock is frozen.
+     *
+     * @return {@literal true} if the virtual time stands still
+     */
+    public boolean isFrozen() {
+        return control.state.frozen;
+    }
+
+    /**
+     * Let the virtual time run with the given speed relative to the real time, a speed of
+     * {@literal 60} lets one real second count as a virtual minute. A frozen clock is
+     * resumed.
+     *
+     * @param speed The speed, must be positive
+     * @return This clock
+     * @throws IllegalArgumentException if the speed is not positive
+     */
+    public VirtualClock warp(double speed) {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("The speed of the clock must be positive but is [" + speed + "]");
+        }
+        synchronized (control) {
+            var real = realNanos();
+            control.state = new State(control.state.virtualAt(real), real, speed, speed, false);
+        }
+        return this;
+    }
+
+    /**
+     * Stop the virtual time until the clock is resumed or warped.
+     *
+     * @return This clock
+     */
+    public VirtualClock freeze() {
+        synchronized (control) {
+            var real = realNanos();
+            var state = control.state;
+            control.state = new State(state.virtualAt(real), real, 0, state.resumeSpeed, true);
+        }
+        return this;
+    }
+
+    /**
+     * Let a frozen clock run again with the speed it had before it was frozen.
+     *
+     * @return This clock
+     */
+    public VirtualClock resume() {
+        synchronized (control) {
+            var state = control.state;
+            if (state.frozen) {
+                control.state = new State(state.virtualBase, realNanos(), state.resumeSpeed, state.resumeSpeed, false);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Move the virtual time forward.
+     *
+     * @param duration The duration to move forward, must not be negative
+     * @return This clock
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public VirtualClock step(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("The clock can't step back in time");
+        }
+        var nanos = duration.toNanos();
+        synchronized (control) {
+            var real = realNanos();
+            var state = control.state;
+            control.state = new State(Math.addExact(state.virtualAt(real), nanos), real, state.speed, state.resumeSpeed, state.frozen);
+        }
+        return this;
+    }
+
+    /**
+     * Set the virtual time to the given instant, the speed is kept.
+     *
+     * @param instant The new virtual time
+     * @return This clock
+     */
+    public VirtualClock set(Instant instant) {
+        var nanos = epochNanos(instant);
+        synchronized (control) {
+            var state = control.state;
+            control.state = new State(nanos, realNanos(), state.speed, state.resumeSpeed, state.frozen);
+        }
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof VirtualClock that && control == that.control && zone.equals(that.zone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(control) * 31 + zone.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "VirtualClock[" + zone + ", speed=" + getSpeed() + "]";
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * A CompactTree stores a whole tree in parallel arrays instead of one object per node.
+ * Each node is an index into these arrays that hold the index of the parent, of the first
+ * child and of the next sibling, the index of the interned identifier and the data. A node
+ * costs a few dozen bytes this way, no matter whether it is a leaf or not, which makes the
+ * structure suitable for large hierarchies like warehouse locations.
+ * <p>
+ * The {@link TreeNode} views of nodes are created on demand and are equal if they point to
+ * the same node. Identifiers are interned, equal identifiers of different nodes share one
+ * instance. Children are kept in insertion order, finding a child by identifier is linear
+ * in the number of siblings. Adding a {@link TreeNode} of another implementation copies the
+ * node with its subtree. A removed node becomes the root of a detached subtree, the space
+ * of detached nodes is not reclaimed.
+ * </p>
+ * <p>
+ * A CompactTree is not thread-safe.
+ * </p>
+ *
+ * @param <T> The type of the node data
+ * @author Heiko Scherrer
+ */
+public class CompactTree<T extends Serializable> implements Serializable {
+
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private int size;
+    private int[] parents;
+    private int[] firstChildren;
+    private int[] nextSiblings;
+    private int[] idRefs;
+    private Object[] data;
+    private int idCount;
+    private Object[] identifiers;
+    private final HashMap<Object, Integer> idIndex = new HashMap<>();
+
+    /**
+     * Create an empty CompactTree.
+     */
+    public CompactTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an empty CompactTree with space for the given number of nodes.
+     *
+     * @param initialCapacity The expected number of nodes
+     */
+    public CompactTree(int initialCapacity) {
+        var capacity = Math.max(initialCapacity, 1);
+        parents = new int[capacity];
+        firstChildren = new int[capacity];
+        nextSiblings = new int[capacity];
+        idRefs = new int[capacity];
+        data = new Object[capacity];
+        identifiers = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Create a new node without parent, e.g. the root node.
+     *
+     * @param data The data of the node
+     * @return The view of the node
+     */
+    public TreeNode<T> createNode(T data) {
+        return new Node(allocate(data));
+    }
+
+    /**
+     * Get the number of nodes in this tree, including detached ones.
+     *
+     * @return The number of nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of distinct identifiers.
+     *
+     * @return The number of interned identifiers
+     */
+    public int getIdentifierCount() {
+        return idCount;
+    }
+
+    private int allocate(T nodeData) {
+        if (size == parents.length) {
+            var capacity = size + (size >> 1) + 1;
+            parents = Arrays.copyOf(parents, capacity);
+            firstChildren = Arrays.copyOf(firstChildren, capacity);
+            nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+            idRefs = Arrays.copyOf(idRefs, capacity);
+            data = Arrays.copyOf(data, capacity);
+        }
+        parents[size] = NONE;
+        firstChildren[size] = NONE;
+        nextSiblings[size] = NONE;
+        idRefs[size] = NONE;
+        data[size] = nodeData;
+        return size++;
+    }
+
+    private int intern(Object identifier) {
+        Objects.requireNonNull(identifier, "The identifier of a child must not be null");
+        return idIndex.computeIfAbsent(identifier, id -> {
+            if (idCount == identifiers.length) {
+                identifiers = Arrays.copyOf(identifiers, idCount << 1);
+            }
+            identifiers[idCount] = id;
+            return idCount++;
+        });
+    }
+
+    private int findChild(int parent, Object identifier) {
+        var idRef = idIndex.get(identifier);
+        if (idRef == null) {
+            return NONE;
+        }
+        for (int child = firstChildren[parent]; child != NONE; child = nextSiblings[child]) {
+            if (idRefs[child] == idRef) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    private boolean isAncestorOrSelf(int ancestor, int node) {
+        for (int n = node; n != NONE; n = parents[n]) {
+            if (n == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* The child must be detached. An existing child with the same identifier is replaced at its position. */
+    private void link(int parent, int child, int idRef) {
+        var prev = NONE;
+        var current = firstChildren[parent];
+        while (current != NONE && idRefs[current] != idRef) {
+            prev = current;
+            current = nextSiblings[current];
+        }
+        if (current != NONE) {
+            nextSiblings[child] = nextSiblings[current];
+            parents[current] = NONE;
+            nextSiblings[current] = NONE;
+        } else {
+            nextSiblings[child] = NONE;
+        }
+        if (prev == NONE) {
+            firstChildren[parent] = child;
+        } else {
+            nextSiblings[prev] = child;
+        }
+        parents[child] = parent;
+        idRefs[child] = idRef;
+    }
+
+    private void unlink(int child) {
+        var parent = parents[child];
+        if (parent == NONE) {
+            return;
+        }
+        if (firstChildren[parent] == child) {
+            firstChildren[parent] = nextSiblings[child];
+        } else {
+            var prev = firstChildren[parent];
+            while (nextSiblings[prev] != child) {
+                prev = nextSiblings[prev];
+            }
+            nextSiblings[prev] = nextSiblings[child];
+        }
+        parents[child] = NONE;
+        nextSiblings[child] = NONE;
+    }
+
+    private int importNode(TreeNode<T> node) {
+        var index = allocate(node.getData());
+        for (var it = node.getChildren(); it.hasNext(); ) {
+            var entry = it.next();
+            link(index, importNode(entry.getValue()), intern(entry.getKey()));
+        }
+        return index;
+    }
+
+    private int indexOf(TreeNode<T> node) {
+        return node instanceof CompactTree<?>.Node n && n.owner() == this ? n.index : NONE;
+    }
+
+    private final class Node implements TreeNode<T> {
+
+        private final int index;
+
+        private Node(int index) {
+            this.index = index;
+        }
+
+        private CompactTree<T> owner() {
+            return CompactTree.this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T getData() {
+            return (T) data[index];
+        }
+
+        @Override
+        public void setData(T data) {
+            CompactTree.this.data[index] = data;
+        }
+
+        @Override
+        public boolean isLeaf() {
+            return firstChildren[index] == NONE;
+        }
+
+        @Override
+        public Iterator<Map.Entry<Object, TreeNode<T>>> getChildren() {
+            return new Iterator<>() {
+                private int next = firstChildren[index];
+
+                @Override
+                public boolean hasNext() {
+                    return next != NONE;
+                }
+
+                @Override
+                public Map.Entry<Object, TreeNode<T>> next() {
+                    if (next == NONE) {
+                        throw new NoSuchElementException();
+                    }
+                    var child = next;
+                    next = nextSiblings[child];
+                    return Map.entry(identifiers[idRefs[child]], new Node(child));
+                }
+            };
+        }
+
+        @Override
+        public TreeNode<T> getChild(Object id) {
+            var child = findChild(index, id);
+            return child == NONE ? null : new Node(child);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * A node of this tree is moved, a node of another implementation is copied.
+         *
+         * @throws IllegalArgumentException if the child is this node or one of its ancestors
+         */
+        @Override
+        public void addChild(Object identifier, TreeNode<T> child) {
+            var idRef = intern(identifier);
+            var childIndex = indexOf(child);
+            if (childIndex == NONE) {
+                childIndex = importNode(child);
+            } else if (isAncestorOrSelf(childIndex, index)) {
+                throw new IllegalArgumentException(format("The node [%s] cannot be added to itself or its descendant", identifier));
+            } else {
+                unlink(childIndex);
+            }
+            link(index, childIndex, idRef);
+        }
+
+        @Override
+        public void removeChild(Object id) {
+            var child = findChild(index, id);
+            if (child != NONE) {
+                unlink(child);
+            }
+        }
+
+        @Override
+        public TreeNode<T> getParent() {
+            return parents[index] == NONE ? null : new Node(parents[index]);
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The node keeps its identifier, {@literal null} detaches the node from its parent.
+         *
+         * @throws IllegalArgumentException if the parent is not a node of this tree, this
+         * node or one of its descendants, or if this node has no identifier yet
+         */
+        @Override
+        public void setParent(TreeNode<T> parent) {
+            if (parent == null) {
+                unlink(index);
+                return;
+            }
+            var parentIndex = indexOf(parent);
+            if (parentIndex == NONE || idRefs[index] == NONE || isAncestorOrSelf(index, parentIndex)) {
+                throw new IllegalArgumentException("The parent must be a node of the same tree that is not a descendant and the node must have an identifier");
+            }
+            unlink(index);
+            link(parentIndex, index, idRefs[index]);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CompactTree<?>.Node other && other.owner() == owner() && other.index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return "Node{" + (idRefs[index] == NONE ? "" : identifiers[idRefs[index]] + "=") + data[index] + "}";
+        }
+    }
+}
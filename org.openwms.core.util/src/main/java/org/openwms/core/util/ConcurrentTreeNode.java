@@ -0,0 +1,200 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A ConcurrentTreeNode is a thread-safe implementation of a {@link TreeNode} that is meant
+ * to be read by many threads while a few threads change the tree. The children are held
+ * in an immutable snapshot that is replaced by a modified copy on each structural change
+ * (copy-on-write). Reading never locks, iterating over {@link #getChildren()} sees the
+ * children that were current when the iteration started and never fails with a
+ * {@link java.util.ConcurrentModificationException}.
+ * <p>
+ * Changes to the children of one node are serialized and published atomically, a reader
+ * either sees a child added with all its data and descendants or not at all, as long as
+ * subtrees are built before they are added. Changes that span more than one node, like
+ * moving a subtree, are not atomic as a whole. Children keep their insertion order.
+ * </p>
+ * <p>
+ * Each structural change copies the children of the node, so adding the children one by
+ * one costs quadratic time in their number. Many children should be added with
+ * {@link #addChildren(Map)}, which publishes them with a single copy.
+ * </p>
+ *
+ * @param <T> The type of the node
+ * @author Heiko Scherrer
+ */
+public class ConcurrentTreeNode<T extends Serializable> implements TreeNode<T>, Serializable {
+
+    private volatile T data;
+    private volatile TreeNode<T> parent;
+    private volatile Map<Object, TreeNode<T>> childrenMap = Collections.emptyMap();
+
+    /**
+     * Create a node without data.
+     */
+    public ConcurrentTreeNode() {
+    }
+
+    /**
+     * Create a node.
+     *
+     * @param data The data of the node
+     */
+    public ConcurrentTreeNode(T data) {
+        this.data = data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLeaf() {
+        return childrenMap.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Iterates over a snapshot of the children that does not support removal.
+     */
+    @Override
+    public Iterator<Map.Entry<Object, TreeNode<T>>> getChildren() {
+        return childrenMap.entrySet().iterator();
+    }
+
+    /**
+     * Get a snapshot of all children by their identifiers.
+     *
+     * @return An unmodifiable map of the children in insertion order
+     */
+    public Map<Object, TreeNode<T>> getChildrenSnapshot() {
+        return childrenMap;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TreeNode<T> getChild(Object id) {
+        return childrenMap.get(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A child with the same identifier is replaced and loses its parent. The children are
+     * copied, use {@link #addChildren(Map)} to add many children.
+     */
+    @Override
+    public synchronized void addChild(Object identifier, TreeNode<T> child) {
+        child.setParent(this);
+        var copy = new LinkedHashMap<>(childrenMap);
+        var replaced = copy.put(identifier, child);
+        childrenMap = Collections.unmodifiableMap(copy);
+        if (replaced != null && replaced != child) {
+            replaced.setParent(null);
+        }
+    }
+
+    /**
+     * Add all children at once with a single copy of the current children, readers either
+     * see all of them or none. Children with the same identifier are replaced and lose
+     * their parent.
+     *
+     * @param children The children by their identifiers, in the order to add them
+     */
+    public synchronized void addChildren(Map<?, ? extends TreeNode<T>> children) {
+        if (children.isEmpty()) {
+            return;
+        }
+        var copy = new LinkedHashMap<>(childrenMap);
+        var replaced = new ArrayList<TreeNode<T>>();
+        for (var entry : children.entrySet()) {
+            entry.getValue().setParent(this);
+            var previous = copy.put(entry.getKey(), entry.getValue());
+            if (previous != null && previous != entry.getValue()) {
+                replaced.add(previous);
+            }
+        }
+        childrenMap = Collections.unmodifiableMap(copy);
+        if (!replaced.isEmpty()) {
+            var added = Collections.newSetFromMap(new IdentityHashMap<TreeNode<T>, Boolean>());
+            added.addAll(children.values());
+            for (var previous : replaced) {
+                if (!added.contains(previous)) {
+                    previous.setParent(null);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The remaining children are copied.
+     */
+    @Override
+    public synchronized void removeChild(Object id) {
+        if (!childrenMap.containsKey(id)) {
+            return;
+        }
+        var copy = new LinkedHashMap<>(childrenMap);
+        var removed = copy.remove(id);
+        childrenMap = copy.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(copy);
+        removed.setParent(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TreeNode<T> getParent() {
+        return parent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParent(TreeNode<T> parent) {
+        this.parent = parent;
+    }
+}
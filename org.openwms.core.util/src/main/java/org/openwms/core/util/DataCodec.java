@@ -0,0 +1,143 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A DataCodec writes values of one type into a {@link ByteBuffer} and reads them back. It
+ * is used by the {@link TreeCodec} to encode the data and the identifiers of nodes. The
+ * encoded length of each value is stored by the caller, so the codec does not need to
+ * delimit values itself.
+ *
+ * @param <T> The type of values
+ * @author Heiko Scherrer
+ * @see TreeCodec
+ */
+public interface DataCodec<T> {
+
+    /** Encodes Strings as UTF-8. */
+    DataCodec<String> UTF8 = new Utf8Codec();
+
+    /** Encodes identifiers by their String representation, they are read as Strings. */
+    DataCodec<Object> IDENTIFIER = new DataCodec<>() {
+        @Override
+        public int sizeOf(Object value) {
+            return UTF8.sizeOf(String.valueOf(value));
+        }
+
+        @Override
+        public void write(Object value, ByteBuffer buffer) {
+            UTF8.write(String.valueOf(value), buffer);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer, int length) {
+            return UTF8.read(buffer, length);
+        }
+    };
+
+    /**
+     * Return the number of bytes the value is encoded to.
+     *
+     * @param value The value, never {@literal null}
+     * @return The encoded length
+     */
+    int sizeOf(T value);
+
+    /**
+     * Write the value at the current position of the buffer, exactly {@link #sizeOf}
+     * bytes must be written.
+     *
+     * @param value The value, never {@literal null}
+     * @param buffer The buffer to write to
+     */
+    void write(T value, ByteBuffer buffer);
+
+    /**
+     * Read a value from the current position of the buffer.
+     *
+     * @param buffer The buffer to read from
+     * @param length The number of bytes to read
+     * @return The value
+     */
+    T read(ByteBuffer buffer, int length);
+
+    /**
+     * Encodes Strings as UTF-8 without creating intermediate arrays when writing.
+     */
+    final class Utf8Codec implements DataCodec<String> {
+
+        private Utf8Codec() {
+        }
+
+        @Override
+        public int sizeOf(String value) {
+            var length = value.length();
+            var size = length;
+            for (int i = 0; i < length; i++) {
+                var c = value.charAt(i);
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // Four bytes for the pair of chars
+                    size += 2;
+                    i++;
+                } else if (c >= 0x800 && !Character.isSurrogate(c)) {
+                    size += 2;
+                } else if (c >= 0x80 && c < 0x800) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            var length = value.length();
+            for (int i = 0; i < length; i++) {
+                var c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer.put((byte) c);
+                } else if (c < 0x800) {
+                    buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    var cp = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F))
+                            .put((byte) (0x80 | cp >> 6 & 0x3F)).put((byte) (0x80 | cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // An unpaired surrogate is replaced with '?' like the JDK encoder does
+                    buffer.put((byte) '?');
+                } else {
+                    buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+                }
+            }
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int length) {
+            String result;
+            if (buffer.hasArray()) {
+                result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                var bytes = new byte[length];
+                buffer.get(bytes);
+                result = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return result;
+        }
+    }
+}
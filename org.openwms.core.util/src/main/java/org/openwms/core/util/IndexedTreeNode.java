@@ -0,0 +1,206 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * An IndexedTreeNode is a {@link TreeNodeImpl} that maintains a path index shared by all
+ * nodes of the tree. The path of a node is the sequence of identifiers from the root to the
+ * node, separated by {@value #SEPARATOR}, e.g. {@literal WH1/A/03/R2}, the root itself has
+ * the empty path. Resolving a path is a single hash lookup instead of one lookup per level,
+ * and all nodes of a subtree are found with one range scan over the sorted paths.
+ * <p>
+ * The index is maintained by {@link #addChild(Object, TreeNode)} and
+ * {@link #removeChild(Object)}: added subtrees are indexed below their new parent,
+ * removed or replaced subtrees get an own index and become trees on their own. Both
+ * operations cost time proportional to the size of the moved subtree. The children must
+ * be IndexedTreeNodes and the string representation of identifiers must not contain the
+ * separator.
+ * </p>
+ *
+ * @param <T> The type of the node
+ * @author Heiko Scherrer
+ */
+public class IndexedTreeNode<T extends Serializable> extends TreeNodeImpl<T> {
+
+    /** The separator of identifiers in a path. */
+    public static final String SEPARATOR = "/";
+    /** The character following the separator, to bound range scans. */
+    private static final char SEPARATOR_END = (char) (SEPARATOR.charAt(0) + 1);
+    private PathIndex<T> index;
+    private String path;
+
+    /**
+     * Create a root node with an empty index.
+     */
+    public IndexedTreeNode() {
+        this.path = "";
+        this.index = new PathIndex<>();
+    }
+
+    /**
+     * Create a root node with an empty index.
+     *
+     * @param data The data of the node
+     */
+    public IndexedTreeNode(T data) {
+        this();
+        setData(data);
+    }
+
+    /**
+     * Get the path of this node from the root of its tree.
+     *
+     * @return The path, the root has the empty path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Find a node by its path relative to this node.
+     *
+     * @param relativePath The path from this node, the empty path resolves this node
+     * @return The node or {@literal null}
+     */
+    public IndexedTreeNode<T> findByPath(String relativePath) {
+        if (relativePath.isEmpty()) {
+            return this;
+        }
+        return index.nodes.get(path.isEmpty() ? relativePath : path + SEPARATOR + relativePath);
+    }
+
+    /**
+     * Return all descendants of this node ordered by their path, without this node.
+     *
+     * @return An unmodifiable view of the descendants
+     */
+    public Collection<IndexedTreeNode<T>> getDescendants() {
+        var sorted = index.sorted;
+        var result = path.isEmpty()
+                ? sorted
+                : sorted.subMap(path + SEPARATOR, true, path + SEPARATOR_END, false);
+        return Collections.unmodifiableCollection(result.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Indexes the child and its subtree below this node. A child with the same identifier
+     * is replaced and becomes a tree on its own, a child that is part of another tree is
+     * removed from there.
+     *
+     * @throws IllegalArgumentException if the child is not an IndexedTreeNode, is this
+     * node or one of its ancestors, or the identifier contains the separator
+     */
+    @Override
+    public void addChild(Object identifier, TreeNode<T> child) {
+        if (!(child instanceof IndexedTreeNode<T> node)) {
+            throw new IllegalArgumentException(format("The child [%s] must be an IndexedTreeNode", identifier));
+        }
+        var id = String.valueOf(identifier);
+        if (id.contains(SEPARATOR)) {
+            throw new IllegalArgumentException(format("The identifier [%s] must not contain [%s]", id, SEPARATOR));
+        }
+        for (TreeNode<T> n = this; n != null; n = n.getParent()) {
+            if (n == node) {
+                throw new IllegalArgumentException(format("The node [%s] cannot be added to itself or its descendant", id));
+            }
+        }
+        if (getChild(identifier) instanceof IndexedTreeNode<T> existing && existing != node) {
+            removeChild(identifier);
+        }
+        var oldParent = node.getParent();
+        if (oldParent != null) {
+            for (var it = oldParent.getChildren(); it.hasNext(); ) {
+                if (it.next().getValue() == node) {
+                    it.remove();
+                    break;
+                }
+            }
+            node.setParent(null);
+        }
+        node.detach();
+        super.addChild(identifier, node);
+        node.reindex(index, path.isEmpty() ? id : path + SEPARATOR + id);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The removed child becomes a tree on its own.
+     */
+    @Override
+    public void removeChild(Object identifier) {
+        var child = getChild(identifier);
+        super.removeChild(identifier);
+        if (child instanceof IndexedTreeNode<T> node) {
+            node.detach();
+        }
+    }
+
+    /* Remove this subtree from the current index and make it a tree with an own index. */
+    private void detach() {
+        if (path.isEmpty()) {
+            return;
+        }
+        index.nodes.remove(path);
+        index.sorted.remove(path);
+        for (var it = getDescendants().iterator(); it.hasNext(); ) {
+            index.nodes.remove(it.next().path);
+        }
+        index.sorted.subMap(path + SEPARATOR, true, path + SEPARATOR_END, false).clear();
+        reindex(new PathIndex<>(), "");
+    }
+
+    /* Walk the subtree iteratively and put all nodes into the index. */
+    @SuppressWarnings("unchecked")
+    private void reindex(PathIndex<T> target, String newPath) {
+        var stack = new ArrayDeque<IndexedTreeNode<T>>();
+        this.index = target;
+        this.path = newPath;
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            var node = stack.pop();
+            if (!node.path.isEmpty()) {
+                target.nodes.put(node.path, node);
+                target.sorted.put(node.path, node);
+            }
+            for (var it = node.getChildren(); it.hasNext(); ) {
+                var entry = it.next();
+                var child = (IndexedTreeNode<T>) entry.getValue();
+                child.index = target;
+                child.path = node.path.isEmpty() ? String.valueOf(entry.getKey()) : node.path + SEPARATOR + entry.getKey();
+                stack.push(child);
+            }
+        }
+    }
+
+    private static final class PathIndex<T extends Serializable> implements Serializable {
+
+        private final Map<String, IndexedTreeNode<T>> nodes = new HashMap<>();
+        private final TreeMap<String, IndexedTreeNode<T>> sorted = new TreeMap<>();
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * A TreeCodec encodes a tree of {@link TreeNode}s into a compact binary format and decodes
+ * it back, as a faster and much smaller alternative to Java serialization.
+ * <p>
+ * The format starts with a header of the magic number {@value #MAGIC}, the format version
+ * and the number of nodes. It is followed by one record per node in pre-order, each
+ * consisting of unsigned variable length integers for the identifier reference, the number
+ * of children and the length of the data, followed by the encoded data. An identifier
+ * reference of 0 denotes the root, a reference to the next unused dictionary entry is
+ * followed by the length and the encoding of the new identifier, so each distinct
+ * identifier is stored once. A data length of 0 means {@literal null}, otherwise it is the
+ * encoded length plus one.
+ * </p>
+ * <p>
+ * Encoding and decoding walk the tree iteratively and work directly on the buffer, which
+ * may also be a memory mapped file. A TreeCodec is stateless and thread-safe as long as
+ * its {@link DataCodec}s are.
+ * </p>
+ *
+ * @param <T> The type of the node data
+ * @author Heiko Scherrer
+ */
+public final class TreeCodec<T> {
+
+    /** The magic number at the start of an encoded tree. */
+    public static final int MAGIC = 0x4F575452;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 9;
+    private final DataCodec<Object> identifierCodec;
+    private final DataCodec<T> dataCodec;
+
+    /**
+     * Create a TreeCodec that encodes identifiers as Strings.
+     *
+     * @param dataCodec The codec of the node data
+     */
+    public TreeCodec(DataCodec<T> dataCodec) {
+        this(DataCodec.IDENTIFIER, dataCodec);
+    }
+
+    /**
+     * Create a TreeCodec.
+     *
+     * @param identifierCodec The codec of the identifiers
+     * @param dataCodec The codec of the node data
+     */
+    public TreeCodec(DataCodec<Object> identifierCodec, DataCodec<T> dataCodec) {
+        this.identifierCodec = identifierCodec;
+        this.dataCodec = dataCodec;
+    }
+
+    /**
+     * Return the number of bytes the tree is encoded to.
+     *
+     * @param root The root of the tree
+     * @return The encoded length
+     */
+    public int sizeOf(TreeNode<T> root) {
+        var size = new int[]{HEADER_SIZE};
+        var dictionary = new HashMap<Object, Integer>();
+        walk(root, (id, node, childCount) -> {
+            size[0] += sizeOfVarInt(childCount);
+            if (id == null) {
+                size[0] += 1;
+            } else {
+                var idRef = dictionary.get(id);
+                if (idRef == null) {
+                    dictionary.put(id, dictionary.size() + 1);
+                    var length = identifierCodec.sizeOf(id);
+                    size[0] += sizeOfVarInt(dictionary.size()) + sizeOfVarInt(length) + length;
+                } else {
+                    size[0] += sizeOfVarInt(idRef);
+                }
+            }
+            var data = node.getData();
+            var length = data == null ? 0 : dataCodec.sizeOf(data);
+            size[0] += sizeOfVarInt(data == null ? 0 : length + 1) + length;
+        });
+        return size[0];
+    }
+
+    /**
+     * Encode a tree into a new heap buffer.
+     *
+     * @param root The root of the tree
+     * @return The buffer, flipped for reading
+     */
+    public ByteBuffer encode(TreeNode<T> root) {
+        var buffer = ByteBuffer.allocate(sizeOf(root));
+        encode(root, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Encode a tree at the current position of the buffer.
+     *
+     * @param root The root of the tree
+     * @param buffer The buffer, must have {@link #sizeOf} bytes remaining
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    public void encode(TreeNode<T> root, ByteBuffer buffer) {
+        var start = buffer.position();
+        buffer.putInt(MAGIC).put(VERSION).putInt(0);
+        var dictionary = new HashMap<Object, Integer>();
+        var count = new int[1];
+        walk(root, (id, node, childCount) -> {
+            count[0]++;
+            if (id == null) {
+                putVarInt(buffer, 0);
+            } else {
+                var idRef = dictionary.get(id);
+                if (idRef == null) {
+                    dictionary.put(id, dictionary.size() + 1);
+                    putVarInt(buffer, dictionary.size());
+                    putVarInt(buffer, identifierCodec.sizeOf(id));
+                    identifierCodec.write(id, buffer);
+                } else {
+                    putVarInt(buffer, idRef);
+                }
+            }
+            putVarInt(buffer, childCount);
+            var data = node.getData();
+            if (data == null) {
+                putVarInt(buffer, 0);
+            } else {
+                putVarInt(buffer, dataCodec.sizeOf(data) + 1);
+                dataCodec.write(data, buffer);
+            }
+        });
+        buffer.putInt(start + 5, count[0]);
+    }
+
+    /**
+     * Encode a tree into a file, an existing file is overwritten.
+     *
+     * @param root The root of the tree
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(TreeNode<T> root, Path file) throws IOException {
+        var size = sizeOf(root);
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            encode(root, buffer);
+            buffer.force();
+        }
+    }
+
+    /**
+     * Decode a tree from the current position of the buffer.
+     *
+     * @param buffer The buffer to read from
+     * @param nodeFactory Creates a node with the given data
+     * @return The root of the tree
+     * @throws IllegalArgumentException if the buffer does not contain an encoded tree
+     */
+    public TreeNode<T> decode(ByteBuffer buffer, Function<? super T, ? extends TreeNode<T>> nodeFactory) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("The buffer does not contain an encoded tree");
+        }
+        var version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException(format("The tree format version [%d] is not supported", version));
+        }
+        var dictionary = new ArrayList<>(Math.min(buffer.getInt(), 1024));
+        var stack = new ArrayDeque<Frame<T>>();
+        buffer.mark();
+        if (getVarInt(buffer) != 0) {
+            throw new IllegalArgumentException("The root node must not have an identifier");
+        }
+        buffer.reset();
+        TreeNode<T> root = null;
+        do {
+            var idRef = getVarInt(buffer);
+            Object id = null;
+            if (idRef > dictionary.size()) {
+                id = identifierCodec.read(buffer, getVarInt(buffer));
+                dictionary.add(id);
+            } else if (idRef > 0) {
+                id = dictionary.get(idRef - 1);
+            }
+            var childCount = getVarInt(buffer);
+            var length = getVarInt(buffer);
+            var node = nodeFactory.apply(length == 0 ? null : dataCodec.read(buffer, length - 1));
+            if (stack.isEmpty()) {
+                root = node;
+            } else {
+                var parent = stack.peek();
+                parent.node.addChild(id, node);
+                if (--parent.remaining == 0) {
+                    stack.pop();
+                }
+            }
+            if (childCount > 0) {
+                stack.push(new Frame<>(node, childCount));
+            }
+        } while (!stack.isEmpty());
+        return root;
+    }
+
+    /**
+     * Decode a tree from a file, the file is memory mapped.
+     *
+     * @param file The file to read
+     * @param nodeFactory Creates a node with the given data
+     * @return The root of the tree
+     * @throws IOException if the file cannot be read
+     */
+    public TreeNode<T> read(Path file, Function<? super T, ? extends TreeNode<T>> nodeFactory) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), nodeFactory);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor<T> {
+        void visit(Object id, TreeNode<T> node, int childCount);
+    }
+
+    /* Pre-order walk with an explicit stack, the children of a node are collected once to count them. */
+    private static <T> void walk(TreeNode<T> root, NodeVisitor<T> visitor) {
+        var stack = new ArrayDeque<Map.Entry<Object, TreeNode<T>>>();
+        var children = new ArrayList<Map.Entry<Object, TreeNode<T>>>();
+        Object id = null;
+        var node = Objects.requireNonNull(root, "The root must not be null");
+        while (true) {
+            for (var it = node.getChildren(); it.hasNext(); ) {
+                children.add(it.next());
+            }
+            visitor.visit(id, node, children.size());
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+            children.clear();
+            var next = stack.poll();
+            if (next == null) {
+                return;
+            }
+            id = Objects.requireNonNull(next.getKey(), "Identifiers must not be null");
+            node = next.getValue();
+        }
+    }
+
+    private static int sizeOfVarInt(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) {
+        var result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            var b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length integer");
+    }
+
+    private static final class Frame<T> {
+
+        private final TreeNode<T> node;
+        private int remaining;
+
+        private Frame(TreeNode<T> node, int remaining) {
+            this.node = node;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * A TreeDiff compares two trees and creates a minimal {@link TreePatch} that turns the old
+ * tree into the new one, and applies such patches to copies of the old tree.
+ * <p>
+ * Nodes of both trees are matched by a key. A TreeDiff {@link #byPath()} uses the path of
+ * identifiers as key, so a node that changed its place is reported as removed and added.
+ * A TreeDiff {@link #byKey(Function)} derives the key from the node, e.g. from the
+ * business key of a location in the data, and also detects moved nodes. The roots are
+ * always matched. The order of siblings is not compared.
+ * </p>
+ * <p>
+ * Patches are published as {@code org.openwms.core.event.TreeChangedEvent}, so that
+ * subscribers can update their copies incrementally.
+ * </p>
+ *
+ * @param <T> The type of the node data
+ * @author Heiko Scherrer
+ */
+public final class TreeDiff<T> {
+
+    private final Function<? super TreeNode<T>, ?> keyFunction;
+
+    private TreeDiff(Function<? super TreeNode<T>, ?> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Create a TreeDiff that matches nodes by their path of identifiers.
+     *
+     * @param <T> The type of the node data
+     * @return The instance
+     */
+    public static <T> TreeDiff<T> byPath() {
+        return new TreeDiff<>(null);
+    }
+
+    /**
+     * Create a TreeDiff that matches nodes by a key that is unique within a tree.
+     *
+     * @param keyFunction Returns the key of a node, must not return {@literal null}
+     * @param <T> The type of the node data
+     * @return The instance
+     */
+    public static <T> TreeDiff<T> byKey(Function<? super TreeNode<T>, ?> keyFunction) {
+        return new TreeDiff<>(Objects.requireNonNull(keyFunction, "The keyFunction must not be null"));
+    }
+
+    /**
+     * Compare two trees.
+     *
+     * @param oldRoot The root of the old tree
+     * @param newRoot The root of the new tree
+     * @return The patch to turn the old tree into the new one
+     * @throws IllegalArgumentException if a key is not unique
+     */
+    public TreePatch<T> diff(TreeNode<T> oldRoot, TreeNode<T> newRoot) {
+        var oldNodes = index(oldRoot);
+        var newNodes = index(newRoot);
+        var removed = new ArrayList<TreePatch.Operation<T>>();
+        var structural = new ArrayList<TreePatch.Operation<T>>();
+        var changed = new ArrayList<TreePatch.Operation<T>>();
+        if (!Objects.equals(oldRoot.getData(), newRoot.getData())) {
+            changed.add(new TreePatch.Changed<>(null, newRoot.getData()));
+        }
+        for (var entry : oldNodes.entrySet()) {
+            var old = entry.getValue();
+            // Only the topmost removed node is reported
+            if (!newNodes.containsKey(entry.getKey()) && (old.parentKey == null || newNodes.containsKey(old.parentKey))) {
+                removed.add(new TreePatch.Removed<>(old.parentKey, old.identifier, entry.getKey()));
+            }
+        }
+        for (var entry : newNodes.entrySet()) {
+            var key = entry.getKey();
+            var current = entry.getValue();
+            var old = oldNodes.get(key);
+            if (old == null) {
+                structural.add(new TreePatch.Added<>(current.parentKey, current.identifier, key, current.node.getData()));
+                continue;
+            }
+            if (!Objects.equals(old.parentKey, current.parentKey) || !Objects.equals(old.identifier, current.identifier)) {
+                structural.add(new TreePatch.Moved<>(key, old.parentKey, old.identifier, current.parentKey, current.identifier));
+            }
+            if (!Objects.equals(old.node.getData(), current.node.getData())) {
+                changed.add(new TreePatch.Changed<>(key, current.node.getData()));
+            }
+        }
+        var operations = new ArrayList<TreePatch.Operation<T>>(removed.size() + structural.size() + changed.size());
+        operations.addAll(removed);
+        operations.addAll(structural);
+        operations.addAll(changed);
+        return new TreePatch<>(operations);
+    }
+
+    /**
+     * Apply a patch that has been created by a TreeDiff with the same kind of keys to a
+     * copy of the old tree.
+     *
+     * @param patch The patch to apply
+     * @param root The root of the tree to change
+     * @param nodeFactory Creates a node with the given data
+     * @throws IllegalArgumentException if the patch refers to a node that does not exist
+     */
+    public void apply(TreePatch<T> patch, TreeNode<T> root, Function<? super T, ? extends TreeNode<T>> nodeFactory) {
+        var nodes = new HashMap<Object, TreeNode<T>>();
+        index(root).forEach((key, entry) -> nodes.put(key, entry.node));
+        nodes.put(null, root);
+        for (var operation : patch.getOperations()) {
+            switch (operation) {
+                case TreePatch.Removed<T> r -> find(nodes, r.parentKey()).removeChild(r.identifier());
+                case TreePatch.Added<T> a -> {
+                    var node = nodeFactory.apply(a.data());
+                    find(nodes, a.parentKey()).addChild(a.identifier(), node);
+                    nodes.put(a.key(), node);
+                }
+                case TreePatch.Moved<T> m -> {
+                    var node = find(nodes, m.key());
+                    var oldParent = find(nodes, m.oldParentKey());
+                    // The place may already be taken by another node that has been added or moved there
+                    if (node.equals(oldParent.getChild(m.oldIdentifier()))) {
+                        oldParent.removeChild(m.oldIdentifier());
+                    }
+                    find(nodes, m.parentKey()).addChild(m.identifier(), node);
+                }
+                case TreePatch.Changed<T> c -> find(nodes, c.key()).setData(c.data());
+            }
+        }
+    }
+
+    private static <T> TreeNode<T> find(Map<Object, TreeNode<T>> nodes, Object key) {
+        var node = nodes.get(key);
+        if (node == null) {
+            throw new IllegalArgumentException(format("The patch does not match the tree, the node [%s] does not exist", key));
+        }
+        return node;
+    }
+
+    /* Collect all nodes but the root in pre-order by their keys. */
+    private Map<Object, Entry<T>> index(TreeNode<T> root) {
+        var result = new LinkedHashMap<Object, Entry<T>>();
+        var stack = new ArrayDeque<Entry<T>>();
+        var children = new ArrayList<Entry<T>>();
+        Entry<T> current = new Entry<>(null, null, null, root);
+        while (current != null) {
+            for (var it = current.node.getChildren(); it.hasNext(); ) {
+                var child = it.next();
+                var node = child.getValue();
+                var key = keyFunction == null
+                        ? path(current.key, child.getKey())
+                        : Objects.requireNonNull(keyFunction.apply(node), "The key of a node must not be null");
+                children.add(new Entry<>(current.key, child.getKey(), key, node));
+            }
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+            children.clear();
+            current = stack.poll();
+            if (current != null && result.put(current.key, current) != null) {
+                throw new IllegalArgumentException(format("The key [%s] is not unique within the tree", current.key));
+            }
+        }
+        return result;
+    }
+
+    private static List<Object> path(Object parentPath, Object identifier) {
+        if (parentPath == null) {
+            return List.of(identifier);
+        }
+        @SuppressWarnings("unchecked")
+        var parent = (List<Object>) parentPath;
+        var result = new ArrayList<>(parent.size() + 1);
+        result.addAll(parent);
+        result.add(identifier);
+        return List.copyOf(result);
+    }
+
+    private record Entry<T>(Object parentKey, Object identifier, Object key, TreeNode<T> node) {
+    }
+}
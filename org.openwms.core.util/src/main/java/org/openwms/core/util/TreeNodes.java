@@ -0,0 +1,302 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A TreeNodes is a utility class with traversals and aggregations of {@link TreeNode}s.
+ * None of the operations recurse along the depth of the tree, so they work on trees of
+ * any depth.
+ * <p>
+ * The streams split by handing over pending subtrees, so parallel streams process
+ * independent subtrees on different threads and do not keep the traversal order. The
+ * aggregations fork one task per child node down to a configurable depth and walk the
+ * deeper subtrees sequentially, using the common {@link java.util.concurrent.ForkJoinPool}.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+public final class TreeNodes {
+
+    /** The default depth down to which aggregations fork tasks. */
+    public static final int DEFAULT_PARALLEL_DEPTH = 3;
+
+    private TreeNodes() {
+    }
+
+    /**
+     * Stream the nodes of a tree in depth-first pre-order, starting with the root.
+     *
+     * @param root The root of the tree
+     * @param parallel Whether to return a parallel stream
+     * @param <T> The type of the node data
+     * @return The stream of nodes
+     */
+    public static <T> Stream<TreeNode<T>> depthFirst(TreeNode<T> root, boolean parallel) {
+        return StreamSupport.stream(new NodeSpliterator<>(root, true), parallel);
+    }
+
+    /**
+     * Stream the nodes of a tree in breadth-first order, starting with the root.
+     *
+     * @param root The root of the tree
+     * @param parallel Whether to return a parallel stream
+     * @param <T> The type of the node data
+     * @return The stream of nodes
+     */
+    public static <T> Stream<TreeNode<T>> breadthFirst(TreeNode<T> root, boolean parallel) {
+        return StreamSupport.stream(new NodeSpliterator<>(root, false), parallel);
+    }
+
+    /**
+     * Reduce a tree to a single value in parallel.
+     *
+     * @param root The root of the tree
+     * @param mapper Maps each node to a value, must not return {@literal null}
+     * @param combiner Associative function to combine the value of a node with the totals
+     * of its children
+     * @param <T> The type of the node data
+     * @param <R> The type of the result
+     * @return The total of the tree
+     * @see #reduce(TreeNode, Function, BinaryOperator, int)
+     */
+    public static <T, R> R reduce(TreeNode<T> root, Function<? super TreeNode<T>, ? extends R> mapper, BinaryOperator<R> combiner) {
+        return reduce(root, mapper, combiner, DEFAULT_PARALLEL_DEPTH);
+    }
+
+    /**
+     * Reduce a tree to a single value in parallel.
+     *
+     * @param root The root of the tree
+     * @param mapper Maps each node to a value, must not return {@literal null}
+     * @param combiner Associative function to combine the value of a node with the totals
+     * of its children
+     * @param parallelDepth The depth down to which a task is forked per node, 0 reduces
+     * sequentially
+     * @param <T> The type of the node data
+     * @param <R> The type of the result
+     * @return The total of the tree
+     */
+    public static <T, R> R reduce(TreeNode<T> root, Function<? super TreeNode<T>, ? extends R> mapper, BinaryOperator<R> combiner, int parallelDepth) {
+        return new ReduceTask<>(root, 0, parallelDepth, mapper, combiner, null).invoke();
+    }
+
+    /**
+     * Calculate the total of each subtree in parallel, e.g. the occupied bins per rack.
+     *
+     * @param root The root of the tree
+     * @param mapper Maps each node to a value, must not return {@literal null}
+     * @param combiner Associative function to combine the value of a node with the totals
+     * of its children
+     * @param <T> The type of the node data
+     * @param <R> The type of the totals
+     * @return The total per node
+     * @see #aggregate(TreeNode, Function, BinaryOperator, int)
+     */
+    public static <T, R> Map<TreeNode<T>, R> aggregate(TreeNode<T> root, Function<? super TreeNode<T>, ? extends R> mapper, BinaryOperator<R> combiner) {
+        return aggregate(root, mapper, combiner, DEFAULT_PARALLEL_DEPTH);
+    }
+
+    /**
+     * Calculate the total of each subtree in parallel, e.g. the occupied bins per rack.
+     *
+     * @param root The root of the tree
+     * @param mapper Maps each node to a value, must not return {@literal null}
+     * @param combiner Associative function to combine the value of a node with the totals
+     * of its children
+     * @param parallelDepth The depth down to which a task is forked per node, 0 aggregates
+     * sequentially
+     * @param <T> The type of the node data
+     * @param <R> The type of the totals
+     * @return The total per node
+     */
+    public static <T, R> Map<TreeNode<T>, R> aggregate(TreeNode<T> root, Function<? super TreeNode<T>, ? extends R> mapper, BinaryOperator<R> combiner, int parallelDepth) {
+        var totals = new ConcurrentHashMap<TreeNode<T>, R>();
+        new ReduceTask<>(root, 0, parallelDepth, mapper, combiner, totals::put).invoke();
+        return totals;
+    }
+
+    /* Post-order walk with an explicit stack, combining each node with its children. */
+    private static <T, R> R reduceSequential(TreeNode<T> root, Function<? super TreeNode<T>, ? extends R> mapper, BinaryOperator<R> combiner, BiConsumer<TreeNode<T>, R> sink) {
+        var stack = new ArrayDeque<Frame<T, R>>();
+        stack.push(new Frame<>(root, mapper.apply(root)));
+        while (true) {
+            var frame = stack.peek();
+            if (frame.children.hasNext()) {
+                var child = frame.children.next().getValue();
+                stack.push(new Frame<>(child, mapper.apply(child)));
+                continue;
+            }
+            stack.pop();
+            if (sink != null) {
+                sink.accept(frame.node, frame.total);
+            }
+            var parent = stack.peek();
+            if (parent == null) {
+                return frame.total;
+            }
+            parent.total = combiner.apply(parent.total, frame.total);
+        }
+    }
+
+    private static final class Frame<T, R> {
+
+        private final TreeNode<T> node;
+        private final Iterator<Map.Entry<Object, TreeNode<T>>> children;
+        private R total;
+
+        private Frame(TreeNode<T> node, R total) {
+            this.node = node;
+            this.children = node.getChildren();
+            this.total = total;
+        }
+    }
+
+    private static final class ReduceTask<T, R> extends RecursiveTask<R> {
+
+        private final transient TreeNode<T> node;
+        private final int depth;
+        private final int parallelDepth;
+        private final transient Function<? super TreeNode<T>, ? extends R> mapper;
+        private final transient BinaryOperator<R> combiner;
+        private final transient BiConsumer<TreeNode<T>, R> sink;
+
+        private ReduceTask(TreeNode<T> node, int depth, int parallelDepth, Function<? super TreeNode<T>, ? extends R> mapper, BinaryOperator<R> combiner, BiConsumer<TreeNode<T>, R> sink) {
+            this.node = node;
+            this.depth = depth;
+            this.parallelDepth = parallelDepth;
+            this.mapper = mapper;
+            this.combiner = combiner;
+            this.sink = sink;
+        }
+
+        @Override
+        protected R compute() {
+            if (depth >= parallelDepth || node.isLeaf()) {
+                return reduceSequential(node, mapper, combiner, sink);
+            }
+            var tasks = new ArrayList<ReduceTask<T, R>>();
+            for (var it = node.getChildren(); it.hasNext(); ) {
+                tasks.add(new ReduceTask<>(it.next().getValue(), depth + 1, parallelDepth, mapper, combiner, sink));
+            }
+            for (int i = 0; i < tasks.size() - 1; i++) {
+                tasks.get(i).fork();
+            }
+            var last = tasks.get(tasks.size() - 1).compute();
+            R total = mapper.apply(node);
+            for (int i = 0; i < tasks.size() - 1; i++) {
+                total = combiner.apply(total, tasks.get(i).join());
+            }
+            total = combiner.apply(total, last);
+            if (sink != null) {
+                sink.accept(node, total);
+            }
+            return total;
+        }
+    }
+
+    private static final class NodeSpliterator<T> implements Spliterator<TreeNode<T>> {
+
+        private final Deque<TreeNode<T>> pending;
+        private final boolean depthFirst;
+        private final ArrayList<TreeNode<T>> buffer = new ArrayList<>();
+
+        private NodeSpliterator(TreeNode<T> root, boolean depthFirst) {
+            this(new ArrayDeque<>(), depthFirst);
+            pending.add(root);
+        }
+
+        private NodeSpliterator(Deque<TreeNode<T>> pending, boolean depthFirst) {
+            this.pending = pending;
+            this.depthFirst = depthFirst;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TreeNode<T>> action) {
+            var node = pending.pollFirst();
+            if (node == null) {
+                return false;
+            }
+            if (depthFirst) {
+                // Push the children in reverse order so that the first child is visited next
+                for (var it = node.getChildren(); it.hasNext(); ) {
+                    buffer.add(it.next().getValue());
+                }
+                for (int i = buffer.size() - 1; i >= 0; i--) {
+                    pending.addFirst(buffer.get(i));
+                }
+                buffer.clear();
+            } else {
+                for (var it = node.getChildren(); it.hasNext(); ) {
+                    pending.addLast(it.next().getValue());
+                }
+            }
+            action.accept(node);
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Hands over the later half of the pending subtrees. A single pending subtree is
+         * split into its root, which is handed over, and its children.
+         */
+        @Override
+        public Spliterator<TreeNode<T>> trySplit() {
+            if (pending.size() == 1 && !pending.peekFirst().isLeaf()) {
+                var node = pending.pollFirst();
+                for (var it = node.getChildren(); it.hasNext(); ) {
+                    pending.addLast(it.next().getValue());
+                }
+                return Spliterators.spliterator(new Object[]{node}, NONNULL);
+            }
+            var count = pending.size() / 2;
+            if (count == 0) {
+                return null;
+            }
+            var split = new ArrayDeque<TreeNode<T>>(count);
+            for (int i = 0; i < count; i++) {
+                split.addFirst(pending.pollLast());
+            }
+            return new NodeSpliterator<>(split, depthFirst);
+        }
+
+        @Override
+        public long estimateSize() {
+            return pending.isEmpty() ? 0 : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL;
+        }
+    }
+}
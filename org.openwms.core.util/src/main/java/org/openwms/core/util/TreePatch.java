@@ -0,0 +1,138 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A TreePatch is the list of operations that turn one tree into another, created by a
+ * {@link TreeDiff}. Nodes are referenced by the keys of the {@code TreeDiff} that created
+ * the patch, the key {@literal null} denotes the root. The operations are ordered so that
+ * they can be applied one after another: removals first, then additions and moves in
+ * pre-order of the new tree, and data changes last.
+ * <p>
+ * A TreePatch is immutable and can be sent to other services as long as the keys and the
+ * node data are serializable.
+ * </p>
+ *
+ * @param <T> The type of the node data
+ * @author Heiko Scherrer
+ * @see TreeDiff#apply(TreePatch, TreeNode, java.util.function.Function)
+ */
+public final class TreePatch<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6250338279117063540L;
+    private final List<Operation<T>> operations;
+
+    /**
+     * Create a TreePatch.
+     *
+     * @param operations The ordered operations
+     */
+    public TreePatch(List<Operation<T>> operations) {
+        this.operations = List.copyOf(operations);
+    }
+
+    /**
+     * Get the operations in the order they have to be applied.
+     *
+     * @return An unmodifiable list of operations
+     */
+    public List<Operation<T>> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Check whether the patch contains any operation.
+     *
+     * @return {@literal true} if both trees were equal
+     */
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "TreePatch" + operations;
+    }
+
+    /**
+     * An Operation of a TreePatch.
+     *
+     * @param <T> The type of the node data
+     */
+    public sealed interface Operation<T> extends Serializable permits Added, Removed, Moved, Changed {
+
+        /**
+         * Get the key of the node the operation applies to.
+         *
+         * @return The key, {@literal null} for the root
+         */
+        Object key();
+    }
+
+    /**
+     * A node has been added, with all its descendants being added by subsequent operations.
+     *
+     * @param parentKey The key of the parent
+     * @param identifier The identifier of the node below the parent
+     * @param key The key of the new node
+     * @param data The data of the node
+     * @param <T> The type of the node data
+     */
+    public record Added<T>(Object parentKey, Object identifier, Object key, T data) implements Operation<T> {
+    }
+
+    /**
+     * A node has been removed together with all its descendants that are not moved.
+     *
+     * @param parentKey The key of the former parent
+     * @param identifier The identifier of the node below the former parent
+     * @param key The key of the removed node
+     * @param <T> The type of the node data
+     */
+    public record Removed<T>(Object parentKey, Object identifier, Object key) implements Operation<T> {
+    }
+
+    /**
+     * A node has been moved to another parent or identifier, together with its descendants.
+     *
+     * @param key The key of the moved node
+     * @param oldParentKey The key of the former parent
+     * @param oldIdentifier The former identifier
+     * @param parentKey The key of the new parent
+     * @param identifier The new identifier
+     * @param <T> The type of the node data
+     */
+    public record Moved<T>(Object key, Object oldParentKey, Object oldIdentifier, Object parentKey, Object identifier) implements Operation<T> {
+    }
+
+    /**
+     * The data of a node has changed.
+     *
+     * @param key The key of the node
+     * @param data The new data
+     * @param <T> The type of the node data
+     */
+    public record Changed<T>(Object key, T data) implements Operation<T> {
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DoubleMeasure is an immutable {@link Measurable} with a primitive {@code double}
+ * magnitude of a {@link LinearUnit}. All arithmetic and comparisons are done on the
+ * primitive value and convert between units with an {@link UnitConversionTable}, the
+ * boxed magnitude is only created when {@link #getMagnitude()} is called.
+ * <p>
+ * Two DoubleMeasures are equal if they have the same magnitude and unit, whereas
+ * {@link #compareTo(DoubleMeasure)} compares the converted magnitudes, hence 1 KG and
+ * 1000 G compare as equal but are not {@code equals}.
+ * </p>
+ *
+ * @param <T> The type of LinearUnit
+ * @author Heiko Scherrer
+ * @see LongMeasure
+ */
+public final class DoubleMeasure<T extends Enum<T> & LinearUnit<T>> implements Measurable<Double, DoubleMeasure<T>, T>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4271530985375124082L;
+    private final double value;
+    private final T unit;
+
+    private DoubleMeasure(double value, T unit) {
+        this.value = value;
+        this.unit = Objects.requireNonNull(unit, "The unit must not be null");
+    }
+
+    /**
+     * Create a DoubleMeasure.
+     *
+     * @param value The magnitude
+     * @param unit The unit of the magnitude
+     * @param <T> The type of LinearUnit
+     * @return The instance
+     */
+    public static <T extends Enum<T> & LinearUnit<T>> DoubleMeasure<T> of(double value, T unit) {
+        return new DoubleMeasure<>(value, unit);
+    }
+
+    /**
+     * Get the magnitude as primitive value.
+     *
+     * @return The magnitude
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Get the magnitude converted into the given unit without creating a new instance.
+     *
+     * @param unit The unit to convert to
+     * @return The magnitude in that unit
+     */
+    public double getValue(T unit) {
+        return this.unit == unit ? value : table().convert(value, this.unit, unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getUnitType() {
+        return unit;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Boxes the magnitude, prefer {@link #getValue()}.
+     */
+    @Override
+    public Double getMagnitude() {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isZero() {
+        return value == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNegative() {
+        return value < 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DoubleMeasure<T> convertTo(T unit) {
+        return this.unit == unit ? this : new DoubleMeasure<>(table().convert(value, this.unit, unit), unit);
+    }
+
+    /**
+     * Add another measure, the result has the unit of this measure.
+     *
+     * @param other The measure to add
+     * @return The sum
+     */
+    public DoubleMeasure<T> add(DoubleMeasure<T> other) {
+        return new DoubleMeasure<>(value + other.getValue(unit), unit);
+    }
+
+    /**
+     * Subtract another measure, the result has the unit of this measure.
+     *
+     * @param other The measure to subtract
+     * @return The difference
+     */
+    public DoubleMeasure<T> subtract(DoubleMeasure<T> other) {
+        return new DoubleMeasure<>(value - other.getValue(unit), unit);
+    }
+
+    /**
+     * Multiply the magnitude with a factor.
+     *
+     * @param factor The factor
+     * @return The scaled measure
+     */
+    public DoubleMeasure<T> scale(double factor) {
+        return new DoubleMeasure<>(value * factor, unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compares the magnitudes converted into the unit of this measure.
+     */
+    @Override
+    public int compareTo(DoubleMeasure<T> o) {
+        return Double.compare(value, o.getValue(unit));
+    }
+
+    private UnitConversionTable<T> table() {
+        return UnitConversionTable.of(unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Magnitude and unit.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DoubleMeasure<?> that && Double.compare(value, that.value) == 0 && unit == that.unit;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Magnitude and unit.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(value) + unit.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return value + " " + unit;
+    }
+}
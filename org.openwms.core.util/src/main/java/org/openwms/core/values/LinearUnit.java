@@ -0,0 +1,36 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+/**
+ * A LinearUnit is a {@link BaseUnit} that is converted to the base unit by a constant
+ * factor, like kilograms are converted to grams by a factor of 1000. LinearUnits are
+ * enums, so that all units of one family are known upfront and the conversion factors
+ * between them can be precomputed in an {@link UnitConversionTable}.
+ *
+ * @param <T> Concrete type of LinearUnit
+ * @author Heiko Scherrer
+ * @see UnitConversionTable
+ */
+public interface LinearUnit<T extends Enum<T> & LinearUnit<T>> extends BaseUnit<T> {
+
+    /**
+     * Return the factor to convert a magnitude of this unit into the base unit.
+     *
+     * @return The factor, must be positive
+     */
+    double getConversionFactor();
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * A LongMeasure is an immutable {@link Measurable} with a fixed-point magnitude of a
+ * {@link LinearUnit}. The magnitude is stored as primitive {@code long} count of
+ * millionths ({@value #SCALE} decimal places), so sums and differences are exact and
+ * conversions between units with an integral ratio are exact as well. Arithmetic and
+ * comparisons never box, conversions go through an {@link UnitConversionTable}.
+ * <p>
+ * Two LongMeasures are equal if they have the same magnitude and unit, whereas
+ * {@link #compareTo(LongMeasure)} compares the magnitudes across units.
+ * </p>
+ *
+ * @param <T> The type of LinearUnit
+ * @author Heiko Scherrer
+ * @see DoubleMeasure
+ */
+public final class LongMeasure<T extends Enum<T> & LinearUnit<T>> implements Measurable<BigDecimal, LongMeasure<T>, T>, Serializable {
+
+    /** The number of decimal places of the fixed-point magnitude. */
+    public static final int SCALE = 6;
+    private static final long ONE = 1_000_000L;
+    @Serial
+    private static final long serialVersionUID = -2816049385713360842L;
+    private final long raw;
+    private final T unit;
+
+    private LongMeasure(long raw, T unit) {
+        this.raw = raw;
+        this.unit = Objects.requireNonNull(unit, "The unit must not be null");
+    }
+
+    /**
+     * Create a LongMeasure from a whole number magnitude.
+     *
+     * @param value The magnitude
+     * @param unit The unit of the magnitude
+     * @param <T> The type of LinearUnit
+     * @return The instance
+     * @throws ArithmeticException if the magnitude exceeds the fixed-point range
+     */
+    public static <T extends Enum<T> & LinearUnit<T>> LongMeasure<T> of(long value, T unit) {
+        return new LongMeasure<>(Math.multiplyExact(value, ONE), unit);
+    }
+
+    /**
+     * Create a LongMeasure from a magnitude that is rounded to {@value #SCALE} decimal
+     * places.
+     *
+     * @param value The magnitude
+     * @param unit The unit of the magnitude
+     * @param <T> The type of LinearUnit
+     * @return The instance
+     * @throws ArithmeticException if the magnitude is not finite or exceeds the fixed-point
+     * range
+     */
+    public static <T extends Enum<T> & LinearUnit<T>> LongMeasure<T> of(double value, T unit) {
+        return new LongMeasure<>(roundExact(value * ONE), unit);
+    }
+
+    private static long roundExact(double value) {
+        if (!(Math.abs(value) < 0x1p63)) {
+            throw new ArithmeticException(format("The magnitude [%s] exceeds the fixed-point range", value / ONE));
+        }
+        return Math.round(value);
+    }
+
+    /**
+     * Create a LongMeasure from a fixed-point magnitude.
+     *
+     * @param raw The magnitude in millionths of the unit
+     * @param unit The unit of the magnitude
+     * @param <T> The type of LinearUnit
+     * @return The instance
+     */
+    public static <T extends Enum<T> & LinearUnit<T>> LongMeasure<T> ofRaw(long raw, T unit) {
+        return new LongMeasure<>(raw, unit);
+    }
+
+    /**
+     * Get the fixed-point magnitude.
+     *
+     * @return The magnitude in millionths of the unit
+     */
+    public long getRaw() {
+        return raw;
+    }
+
+    /**
+     * Get the fixed-point magnitude converted into the given unit without creating a new
+     * instance.
+     *
+     * @param unit The unit to convert to
+     * @return The magnitude in millionths of that unit
+     */
+    public long getRaw(T unit) {
+        return this.unit == unit ? raw : table().convert(raw, this.unit, unit);
+    }
+
+    /**
+     * Get the magnitude as primitive {@code double}.
+     *
+     * @return The magnitude
+     */
+    public double doubleValue() {
+        return (double) raw / ONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getUnitType() {
+        return unit;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Returns the exact magnitude with {@value #SCALE} decimal places, prefer
+     * {@link #getRaw()} in calculations.
+     */
+    @Override
+    public BigDecimal getMagnitude() {
+        return BigDecimal.valueOf(raw, SCALE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isZero() {
+        return raw == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNegative() {
+        return raw < 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ArithmeticException if the result exceeds the fixed-point range
+     */
+    @Override
+    public LongMeasure<T> convertTo(T unit) {
+        return this.unit == unit ? this : new LongMeasure<>(table().convert(raw, this.unit, unit), unit);
+    }
+
+    /**
+     * Add another measure, the result has the unit of this measure.
+     *
+     * @param other The measure to add
+     * @return The sum
+     * @throws ArithmeticException if the result exceeds the fixed-point range
+     */
+    public LongMeasure<T> add(LongMeasure<T> other) {
+        return new LongMeasure<>(Math.addExact(raw, other.getRaw(unit)), unit);
+    }
+
+    /**
+     * Subtract another measure, the result has the unit of this measure.
+     *
+     * @param other The measure to subtract
+     * @return The difference
+     * @throws ArithmeticException if the result exceeds the fixed-point range
+     */
+    public LongMeasure<T> subtract(LongMeasure<T> other) {
+        return new LongMeasure<>(Math.subtractExact(raw, other.getRaw(unit)), unit);
+    }
+
+    /**
+     * Multiply the magnitude with a whole number, e.g. a quantity.
+     *
+     * @param factor The factor
+     * @return The scaled measure
+     * @throws ArithmeticException if the result exceeds the fixed-point range
+     */
+    public LongMeasure<T> scale(long factor) {
+        return new LongMeasure<>(Math.multiplyExact(raw, factor), unit);
+    }
+
+    /**
+     * Multiply the magnitude with a factor, the result is rounded to {@value #SCALE}
+     * decimal places.
+     *
+     * @param factor The factor
+     * @return The scaled measure
+     * @throws ArithmeticException if the factor is not finite or the result exceeds the
+     * fixed-point range
+     */
+    public LongMeasure<T> scale(double factor) {
+        return new LongMeasure<>(roundExact(raw * factor), unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compares the magnitudes without rounding, see
+     * {@link UnitConversionTable#compare(long, Enum, long, Enum)}.
+     */
+    @Override
+    public int compareTo(LongMeasure<T> o) {
+        return table().compare(raw, unit, o.raw, o.unit);
+    }
+
+    private UnitConversionTable<T> table() {
+        return UnitConversionTable.of(unit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Magnitude and unit.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LongMeasure<?> that && raw == that.raw && unit == that.unit;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Magnitude and unit.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(raw) + unit.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return getMagnitude().stripTrailingZeros().toPlainString() + " " + unit;
+    }
+}
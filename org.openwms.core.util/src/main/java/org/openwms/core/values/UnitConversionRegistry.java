@@ -0,0 +1,201 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import org.ameba.exception.ServiceLayerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.String.format;
+
+/**
+ * A UnitConversionRegistry is a Spring managed component that builds the
+ * {@link UnitConversionTable}s of all {@link LinearUnit} enum families at startup, so that
+ * no conversion matrix is computed while processing. Families are found on the classpath
+ * below the packages of the property {@value #PROPERTY_NAME} (default {@code org.openwms})
+ * and can be registered programmatically as well.
+ * <p>
+ * Conversions only use the tables of registered families. Lookups are a single array
+ * access and do not allocate. The bulk conversions of primitive arrays are meant for
+ * batch jobs that convert many magnitudes at once.
+ * {@link BaseUnit}s without a conversion factor cannot be converted and are ignored.
+ * </p>
+ *
+ * @author Heiko Scherrer
+ */
+@Component(value = UnitConversionRegistry.COMPONENT_NAME)
+public class UnitConversionRegistry implements InitializingBean {
+
+    /** Springs service name. */
+    public static final String COMPONENT_NAME = "unitConversionRegistry";
+    /** The property with the base packages to search unit families in. */
+    public static final String PROPERTY_NAME = "owms.core.values.unit-packages";
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnitConversionRegistry.class);
+    private final ConcurrentMap<Class<?>, UnitConversionTable<?>> tables = new ConcurrentHashMap<>();
+    private final String[] basePackages;
+
+    /**
+     * Create a UnitConversionRegistry.
+     *
+     * @param basePackages The packages to search unit families in
+     */
+    public UnitConversionRegistry(@Value("${" + PROPERTY_NAME + ":org.openwms}") String[] basePackages) {
+        this.basePackages = basePackages;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Searches and registers all unit families.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void afterPropertiesSet() {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(LinearUnit.class));
+        for (var basePackage : basePackages) {
+            for (var candidate : scanner.findCandidateComponents(basePackage)) {
+                var type = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+                if (type.isEnum()) {
+                    register((Class) type);
+                }
+            }
+        }
+        LOGGER.info("Registered unit families {}", tables.keySet());
+    }
+
+    /**
+     * Register a unit family and build its conversion matrix, if not done already.
+     *
+     * @param unitType The enum class of the units
+     * @param <T> The type of LinearUnit
+     */
+    public <T extends Enum<T> & LinearUnit<T>> void register(Class<T> unitType) {
+        tables.computeIfAbsent(unitType, type -> UnitConversionTable.of(unitType));
+    }
+
+    /**
+     * Return all registered unit families.
+     *
+     * @return The enum classes of the families
+     */
+    public Set<Class<?>> getFamilies() {
+        return Set.copyOf(tables.keySet());
+    }
+
+    /**
+     * Return the conversion table of a registered unit family.
+     *
+     * @param unitType The enum class of the units
+     * @param <T> The type of LinearUnit
+     * @return The table
+     * @throws ServiceLayerException if the family is not registered
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Enum<T> & LinearUnit<T>> UnitConversionTable<T> getTable(Class<T> unitType) {
+        var table = tables.get(unitType);
+        if (table == null) {
+            throw new ServiceLayerException(format("The unit family [%s] is not registered", unitType.getName()));
+        }
+        return (UnitConversionTable<T>) table;
+    }
+
+    /**
+     * Return the factor to convert a magnitude from one unit into another.
+     *
+     * @param from The source unit
+     * @param to The target unit
+     * @param <T> The type of LinearUnit
+     * @return The factor
+     * @throws ServiceLayerException if the family is not registered
+     */
+    public <T extends Enum<T> & LinearUnit<T>> double factor(T from, T to) {
+        return getTable(from.getDeclaringClass()).factor(from, to);
+    }
+
+    /**
+     * Convert all magnitudes of the array in place.
+     *
+     * @param magnitudes The magnitudes in the source unit
+     * @param from The source unit
+     * @param to The target unit
+     * @param <T> The type of LinearUnit
+     * @throws ServiceLayerException if the family is not registered
+     */
+    public <T extends Enum<T> & LinearUnit<T>> void convert(double[] magnitudes, T from, T to) {
+        getTable(from.getDeclaringClass()).convert(magnitudes, 0, magnitudes, 0, magnitudes.length, from, to);
+    }
+
+    /**
+     * Convert all fixed-point magnitudes of the array in place.
+     *
+     * @param magnitudes The magnitudes in the source unit
+     * @param from The source unit
+     * @param to The target unit
+     * @param <T> The type of LinearUnit
+     * @throws ArithmeticException if a result overflows
+     * @throws ServiceLayerException if the family is not registered
+     * @see UnitConversionTable#convert(long, Enum, Enum)
+     */
+    public <T extends Enum<T> & LinearUnit<T>> void convert(long[] magnitudes, T from, T to) {
+        getTable(from.getDeclaringClass()).convert(magnitudes, 0, magnitudes, 0, magnitudes.length, from, to);
+    }
+
+    /**
+     * Convert a range of magnitudes into another array.
+     *
+     * @param src The magnitudes in the source unit
+     * @param srcPos The first index in {@code src}
+     * @param dst The array to store the converted magnitudes
+     * @param dstPos The first index in {@code dst}
+     * @param length The number of magnitudes to convert
+     * @param from The source unit
+     * @param to The target unit
+     * @param <T> The type of LinearUnit
+     * @throws ServiceLayerException if the family is not registered
+     */
+    public <T extends Enum<T> & LinearUnit<T>> void convert(double[] src, int srcPos, double[] dst, int dstPos, int length, T from, T to) {
+        getTable(from.getDeclaringClass()).convert(src, srcPos, dst, dstPos, length, from, to);
+    }
+
+    /**
+     * Convert a range of fixed-point magnitudes into another array.
+     *
+     * @param src The magnitudes in the source unit
+     * @param srcPos The first index in {@code src}
+     * @param dst The array to store the converted magnitudes
+     * @param dstPos The first index in {@code dst}
+     * @param length The number of magnitudes to convert
+     * @param from The source unit
+     * @param to The target unit
+     * @param <T> The type of LinearUnit
+     * @throws ArithmeticException if a result overflows
+     * @throws ServiceLayerException if the family is not registered
+     */
+    public <T extends Enum<T> & LinearUnit<T>> void convert(long[] src, int srcPos, long[] dst, int dstPos, int length, T from, T to) {
+        getTable(from.getDeclaringClass()).convert(src, srcPos, dst, dstPos, length, from, to);
+    }
+}
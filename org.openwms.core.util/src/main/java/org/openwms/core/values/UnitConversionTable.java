@@ -0,0 +1,251 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * A UnitConversionTable holds the precomputed conversion factors between all units of a
+ * {@link LinearUnit} family, indexed by the ordinals of the units. Converting a magnitude
+ * is a single array access and a multiplication. Fixed-point magnitudes are converted
+ * with an exact integer multiplication or division whenever the ratio between the units
+ * is integral.
+ * <p>
+ * Tables are created once per unit family and cached, so they can be looked up with
+ * {@link #of(Class)} on every conversion.
+ * </p>
+ *
+ * @param <T> The type of LinearUnit
+ * @author Heiko Scherrer
+ */
+public final class UnitConversionTable<T extends Enum<T> & LinearUnit<T>> {
+
+    private static final double EPSILON = 1e-9;
+    private static final ClassValue<UnitConversionTable<?>> TABLES = new ClassValue<>() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        protected UnitConversionTable<?> computeValue(Class<?> type) {
+            return new UnitConversionTable((Enum[]) type.getEnumConstants());
+        }
+    };
+    private final int size;
+    private final double[] factors;
+    private final long[] multipliers;
+    private final long[] divisors;
+    private final long[] finestMultipliers;
+    private final BigDecimal[] finestFactors;
+
+    private UnitConversionTable(T[] units) {
+        this.size = units.length;
+        this.factors = new double[size * size];
+        this.multipliers = new long[size * size];
+        this.divisors = new long[size * size];
+        for (var from : units) {
+            if (!(from.getConversionFactor() > 0)) {
+                throw new IllegalArgumentException(format("The conversion factor of unit [%s] must be positive", from));
+            }
+            for (var to : units) {
+                var idx = from.ordinal() * size + to.ordinal();
+                var ratio = from.getConversionFactor() / to.getConversionFactor();
+                factors[idx] = ratio;
+                multipliers[idx] = integral(ratio);
+                divisors[idx] = integral(1 / ratio);
+            }
+        }
+        // Magnitudes are compared in the finest unit, exactly if the ratio is integral
+        var finest = units[0];
+        for (var unit : units) {
+            if (unit.getConversionFactor() < finest.getConversionFactor()) {
+                finest = unit;
+            }
+        }
+        this.finestMultipliers = new long[size];
+        this.finestFactors = new BigDecimal[size];
+        for (var unit : units) {
+            var idx = unit.ordinal() * size + finest.ordinal();
+            finestMultipliers[unit.ordinal()] = unit == finest ? 1 : multipliers[idx];
+            finestFactors[unit.ordinal()] = new BigDecimal(factors[idx]);
+        }
+    }
+
+    private static long integral(double value) {
+        if (value < 1 || value > Long.MAX_VALUE) {
+            return 0;
+        }
+        var rounded = Math.round(value);
+        return Math.abs(value - rounded) <= EPSILON * rounded ? rounded : 0;
+    }
+
+    /**
+     * Return the table of the given unit family.
+     *
+     * @param unitType The enum class of the units
+     * @param <T> The type of LinearUnit
+     * @return The cached table
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Enum<T> & LinearUnit<T>> UnitConversionTable<T> of(Class<T> unitType) {
+        return (UnitConversionTable<T>) TABLES.get(unitType);
+    }
+
+    /**
+     * Return the table of the family the given unit belongs to.
+     *
+     * @param unit One unit of the family
+     * @param <T> The type of LinearUnit
+     * @return The cached table
+     */
+    public static <T extends Enum<T> & LinearUnit<T>> UnitConversionTable<T> of(T unit) {
+        return of(unit.getDeclaringClass());
+    }
+
+    /**
+     * Return the factor to convert a magnitude from one unit into another.
+     *
+     * @param from The source unit
+     * @param to The target unit
+     * @return The factor
+     */
+    public double factor(T from, T to) {
+        return factors[from.ordinal() * size + to.ordinal()];
+    }
+
+    /**
+     * Convert a magnitude from one unit into another.
+     *
+     * @param magnitude The magnitude in the source unit
+     * @param from The source unit
+     * @param to The target unit
+     * @return The magnitude in the target unit
+     */
+    public double convert(double magnitude, T from, T to) {
+        return magnitude * factors[from.ordinal() * size + to.ordinal()];
+    }
+
+    /**
+     * Convert a range of magnitudes from one unit into another. Source and target may be
+     * the same array to convert in place.
+     *
+     * @param src The magnitudes in the source unit
+     * @param srcPos The first index in {@code src}
+     * @param dst The array to store the converted magnitudes
+     * @param dstPos The first index in {@code dst}
+     * @param length The number of magnitudes to convert
+     * @param from The source unit
+     * @param to The target unit
+     * @throws IndexOutOfBoundsException if a range exceeds an array
+     */
+    public void convert(double[] src, int srcPos, double[] dst, int dstPos, int length, T from, T to) {
+        Objects.checkFromIndexSize(srcPos, length, src.length);
+        Objects.checkFromIndexSize(dstPos, length, dst.length);
+        var factor = factors[from.ordinal() * size + to.ordinal()];
+        for (int i = 0; i < length; i++) {
+            dst[dstPos + i] = src[srcPos + i] * factor;
+        }
+    }
+
+    /**
+     * Compare two fixed-point magnitudes of different units without rounding. Both are
+     * compared in the finest unit of the family, which is exact for all units with an
+     * integral ratio to it. The comparison is a total order over all magnitudes and units.
+     *
+     * @param magnitude The first fixed-point magnitude
+     * @param unit The unit of the first magnitude
+     * @param otherMagnitude The second fixed-point magnitude
+     * @param otherUnit The unit of the second magnitude
+     * @return A negative number, zero or a positive number if the first magnitude is less
+     * than, equal to or greater than the second one
+     */
+    public int compare(long magnitude, T unit, long otherMagnitude, T otherUnit) {
+        if (unit == otherUnit) {
+            return Long.compare(magnitude, otherMagnitude);
+        }
+        var multiplier = finestMultipliers[unit.ordinal()];
+        var otherMultiplier = finestMultipliers[otherUnit.ordinal()];
+        if (multiplier != 0 && otherMultiplier != 0) {
+            // Compare the 128 bit products
+            var high = Long.compare(Math.multiplyHigh(magnitude, multiplier), Math.multiplyHigh(otherMagnitude, otherMultiplier));
+            return high != 0 ? high : Long.compareUnsigned(magnitude * multiplier, otherMagnitude * otherMultiplier);
+        }
+        return BigDecimal.valueOf(magnitude).multiply(finestFactors[unit.ordinal()])
+                .compareTo(BigDecimal.valueOf(otherMagnitude).multiply(finestFactors[otherUnit.ordinal()]));
+    }
+
+    /**
+     * Convert a fixed-point magnitude from one unit into another. If the ratio between
+     * the units is integral, the magnitude is multiplied or divided exactly, with the
+     * division rounded half up. Otherwise the result is rounded to the closest value.
+     *
+     * @param magnitude The fixed-point magnitude in the source unit
+     * @param from The source unit
+     * @param to The target unit
+     * @return The fixed-point magnitude in the target unit
+     * @throws ArithmeticException if the result overflows
+     */
+    public long convert(long magnitude, T from, T to) {
+        var idx = from.ordinal() * size + to.ordinal();
+        var multiplier = multipliers[idx];
+        if (multiplier != 0) {
+            return multiplier == 1 ? magnitude : Math.multiplyExact(magnitude, multiplier);
+        }
+        var divisor = divisors[idx];
+        if (divisor != 0) {
+            var quotient = Math.floorDiv(magnitude, divisor);
+            return 2 * Math.floorMod(magnitude, divisor) >= divisor ? quotient + 1 : quotient;
+        }
+        var result = magnitude * factors[idx];
+        if (Math.abs(result) >= 0x1p63) {
+            throw new ArithmeticException(format("Converting [%d] from [%s] to [%s] overflows", magnitude, from, to));
+        }
+        return Math.round(result);
+    }
+
+    /**
+     * Convert a range of fixed-point magnitudes from one unit into another with the
+     * rounding of {@link #convert(long, Enum, Enum)}. Source and target may be the same
+     * array to convert in place.
+     *
+     * @param src The magnitudes in the source unit
+     * @param srcPos The first index in {@code src}
+     * @param dst The array to store the converted magnitudes
+     * @param dstPos The first index in {@code dst}
+     * @param length The number of magnitudes to convert
+     * @param from The source unit
+     * @param to The target unit
+     * @throws IndexOutOfBoundsException if a range exceeds an array
+     * @throws ArithmeticException if a result overflows, the magnitudes before the
+     * overflowing one have been converted already
+     */
+    public void convert(long[] src, int srcPos, long[] dst, int dstPos, int length, T from, T to) {
+        Objects.checkFromIndexSize(srcPos, length, src.length);
+        Objects.checkFromIndexSize(dstPos, length, dst.length);
+        var multiplier = multipliers[from.ordinal() * size + to.ordinal()];
+        if (multiplier == 1) {
+            System.arraycopy(src, srcPos, dst, dstPos, length);
+        } else if (multiplier != 0) {
+            for (int i = 0; i < length; i++) {
+                dst[dstPos + i] = Math.multiplyExact(src[srcPos + i], multiplier);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst[dstPos + i] = convert(src[srcPos + i], from, to);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.aop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.annotation.FireAfterTransaction;
+import org.openwms.core.event.RoleChangedEvent;
+import org.openwms.core.event.RootApplicationEvent;
+import org.openwms.core.event.UserChangedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A FireAfterTransactionAspectTest.
+ *
+ * @author Heiko Scherrer
+ */
+class FireAfterTransactionAspectTest {
+
+    private StaticApplicationContext ctx;
+    private FireAfterTransactionAspect testee;
+    private final List<RootApplicationEvent> received = new ArrayList<>();
+
+    @FireAfterTransaction(events = {UserChangedEvent.class, RoleChangedEvent.class})
+    void save() {
+        // Only used to carry the annotation
+    }
+
+    private FireAfterTransaction annotation() throws Exception {
+        return getClass().getDeclaredMethod("save").getAnnotation(FireAfterTransaction.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ctx = new StaticApplicationContext();
+        ctx.addApplicationListener((ApplicationListener<RootApplicationEvent>) received::add);
+        ctx.refresh();
+        testee = new FireAfterTransactionAspect(ctx);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ctx.close();
+    }
+
+    @Test
+    void shall_publish_immediately_without_transaction() throws Exception {
+        testee.fireEvent(this, annotation());
+        testee.fireEvent(this, annotation());
+
+        assertThat(received).hasSize(4);
+    }
+
+    @Test
+    void shall_publish_distinct_events_after_commit() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        var other = new Object();
+        for (int i = 0; i < 100; i++) {
+            testee.fireEvent(this, annotation());
+            testee.fireEvent(other, annotation());
+        }
+        assertThat(received).isEmpty();
+
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(received).extracting(RootApplicationEvent::getSource).containsExactly(this, this, other, other);
+        assertThat(received).extracting(Object::getClass)
+                .containsExactly(UserChangedEvent.class, RoleChangedEvent.class, UserChangedEvent.class, RoleChangedEvent.class);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    void shall_discard_events_on_rollback() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        testee.fireEvent(this, annotation());
+
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(received).isEmpty();
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.app;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.event.RootNotification;
+import org.openwms.core.lang.Triple;
+import org.openwms.core.values.PriorityLevel;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A CoreModuleTest.
+ *
+ * @author Heiko Scherrer
+ */
+class CoreModuleTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new CoreModule(ZoneOffset.UTC));
+
+    record Order(String id, PriorityLevel priority, Triple<String, LocalDate, String> due) implements Serializable {
+    }
+
+    static class Notification extends RootNotification {
+        private final String topic;
+
+        Notification(Serializable data, String topic) {
+            super(data);
+            this.topic = topic;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+    }
+
+    @Test
+    void shall_map_priority_levels() throws Exception {
+        assertThat(mapper.writeValueAsString(PriorityLevel.HIGH)).isEqualTo("\"HIGH\"");
+        assertThat(mapper.readValue("\"LOWEST\"", PriorityLevel.class)).isEqualTo(PriorityLevel.LOWEST);
+        assertThat(mapper.readValue("2", PriorityLevel.class)).isEqualTo(PriorityLevel.NORMAL);
+        assertThatThrownBy(() -> mapper.readValue("\"URGENT\"", PriorityLevel.class)).isInstanceOf(InvalidFormatException.class);
+    }
+
+    @Test
+    void shall_honour_the_enum_features() throws Exception {
+        assertThat(mapper.writer(SerializationFeature.WRITE_ENUMS_USING_INDEX).writeValueAsString(PriorityLevel.HIGH)).isEqualTo("3");
+        assertThat(mapper.writer(SerializationFeature.WRITE_ENUMS_USING_TO_STRING).writeValueAsString(PriorityLevel.HIGH)).isEqualTo("\"HIGH\"");
+        var reader = mapper.readerFor(PriorityLevel.class);
+        assertThat((PriorityLevel) reader.with(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL).readValue("\"URGENT\"")).isNull();
+        assertThatThrownBy(() -> reader.with(DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS).readValue("2")).isInstanceOf(InvalidFormatException.class);
+        var caseInsensitive = JsonMapper.builder().enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS).addModule(new CoreModule(ZoneOffset.UTC)).build();
+        assertThat(caseInsensitive.readValue("\"lowest\"", PriorityLevel.class)).isEqualTo(PriorityLevel.LOWEST);
+    }
+
+    @Test
+    void shall_only_depend_on_blackbird_when_enabled() {
+        assertThat(new CoreModule(ZoneOffset.UTC).getDependencies()).isEmpty();
+    }
+
+    @Test
+    void shall_map_triples_with_their_type_parameters() throws Exception {
+        var mapper = this.mapper.copy().findAndRegisterModules().registerModule(new CoreModule(ZoneOffset.UTC));
+        var order = new Order("4711", PriorityLevel.HIGHEST, new Triple<>("due", LocalDate.of(2025, 5, 1), "date"));
+
+        var json = mapper.writeValueAsString(order);
+        assertThat(json).contains("\"due\":{\"key\":\"due\",\"value\":[2025,5,1],\"type\":\"date\"}");
+        assertThat(mapper.readValue(json, Order.class)).isEqualTo(order);
+
+        var triples = mapper.readValue("[{\"type\":null,\"key\":1}]", new TypeReference<List<Triple<Long, String, String>>>() {});
+        assertThat(triples).containsExactly(new Triple<>(1L, null, null));
+        assertThatThrownBy(() -> mapper.readValue("{\"other\":1}", Triple.class)).isInstanceOf(UnrecognizedPropertyException.class);
+        var lenient = mapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        assertThat(lenient.readValue("{\"other\":{\"a\":1},\"key\":\"k\"}", Triple.class)).isEqualTo(new Triple<>("k", null, null));
+    }
+
+    @Test
+    void shall_map_root_notifications_but_not_subclasses() throws Exception {
+        var json = mapper.writeValueAsString(new RootNotification(PriorityLevel.LOW));
+        assertThat(json).isEqualTo("{\"data\":\"LOW\"}");
+        assertThat(mapper.readValue("{\"data\":{\"a\":1}}", RootNotification.class).getData()).isEqualTo(Map.of("a", 1));
+        assertThatThrownBy(() -> mapper.readValue("{}", RootNotification.class)).hasMessageContaining("must be serializable");
+
+        assertThat(mapper.writeValueAsString(new Notification("x", "stock"))).contains("\"topic\":\"stock\"");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A CopyOnWriteEventDispatcherTest.
+ *
+ * @author Heiko Scherrer
+ */
+class CopyOnWriteEventDispatcherTest {
+
+    @Test
+    void shall_dispatch_in_subscription_order() {
+        var testee = new CopyOnWriteEventDispatcher(null);
+        List<String> calls = new ArrayList<>();
+        EventListener first = e -> calls.add("first");
+        EventListener second = e -> calls.add("second");
+        testee.subscribe(UserChangedEvent.class, first);
+        testee.subscribe(UserChangedEvent.class, second);
+        testee.subscribe(UserChangedEvent.class, first);
+
+        testee.dispatch(new UserChangedEvent(this));
+
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    void shall_not_dispatch_after_unsubscribe() {
+        var testee = new CopyOnWriteEventDispatcher(null);
+        List<String> calls = new ArrayList<>();
+        EventListener first = e -> calls.add("first");
+        EventListener second = e -> calls.add("second");
+        testee.subscribe(UserChangedEvent.class, first);
+        testee.subscribe(UserChangedEvent.class, second);
+
+        testee.unsubscribe(UserChangedEvent.class, first);
+        testee.dispatch(new UserChangedEvent(this));
+        testee.unsubscribe(UserChangedEvent.class, second);
+        testee.dispatch(new UserChangedEvent(this));
+
+        assertThat(calls).containsExactly("second");
+    }
+
+    @Test
+    void shall_ignore_null_and_unknown_events() {
+        var testee = new CopyOnWriteEventDispatcher(null);
+        List<String> calls = new ArrayList<>();
+        testee.subscribe(UserChangedEvent.class, e -> calls.add("user"));
+
+        testee.dispatch(null);
+        testee.dispatch(new RoleChangedEvent(this));
+
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    void shall_dispatch_to_supertype_and_interface_subscribers() {
+        var testee = new CopyOnWriteEventDispatcher(null);
+        List<String> calls = new ArrayList<>();
+        EventListener root = e -> calls.add("root");
+        testee.subscribe(RootApplicationEvent.class, root);
+        testee.subscribeToType(Serializable.class, root);
+        testee.subscribeToType(Serializable.class, e -> calls.add("serializable"));
+        testee.subscribe(ConfigurationChangedEvent.class, e -> calls.add("config"));
+
+        testee.dispatch(new ConfigurationChangedEvent(this));
+
+        assertThat(calls).containsExactly("config", "root", "serializable");
+    }
+
+    @Test
+    void shall_evict_cached_plans_on_subscription_changes() {
+        var testee = new CopyOnWriteEventDispatcher(null);
+        List<String> calls = new ArrayList<>();
+        EventListener root = e -> calls.add("root");
+        testee.dispatch(new UserChangedEvent(this));
+
+        testee.subscribe(RootApplicationEvent.class, root);
+        testee.dispatch(new UserChangedEvent(this));
+        testee.unsubscribe(RootApplicationEvent.class, root);
+        testee.dispatch(new UserChangedEvent(this));
+
+        assertThat(calls).containsExactly("root");
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A MicroBatchingEventListenerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class MicroBatchingEventListenerTest {
+
+    private final LinkedBlockingQueue<List<Object>> batches = new LinkedBlockingQueue<>();
+
+    private void receive(List<? extends RootApplicationEvent> events) {
+        batches.add(events.stream().map(RootApplicationEvent::getSource).toList());
+    }
+
+    @Test
+    void shall_deliver_full_batches_per_type() {
+        var dispatcher = new CopyOnWriteEventDispatcher(null);
+        BatchEventListener<RootApplicationEvent> listener = this::receive;
+        dispatcher.subscribe(UserChangedEvent.class, listener, Duration.ofHours(1), 3);
+        dispatcher.subscribe(RoleChangedEvent.class, listener, Duration.ofHours(1), 3);
+
+        for (int i = 0; i < 7; i++) {
+            dispatcher.dispatch(new UserChangedEvent(i));
+        }
+        dispatcher.dispatch(new RoleChangedEvent("r"));
+        assertThat(batches).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+
+        dispatcher.destroy();
+        assertThat(batches).hasSize(4).contains(List.of(6), List.of("r"));
+    }
+
+    @Test
+    void shall_deliver_partial_batch_after_window() throws Exception {
+        try (var testee = new MicroBatchingEventListener<UserChangedEvent>(this::receive, Duration.ofMillis(20), 100)) {
+            testee.onEvent(new UserChangedEvent(1));
+            testee.onEvent(new UserChangedEvent(2));
+
+            assertThat(batches.poll(5, TimeUnit.SECONDS)).containsExactly(1, 2);
+            assertThat(batches).isEmpty();
+        }
+    }
+
+    @Test
+    void shall_not_delay_other_windows_with_a_slow_listener() throws Exception {
+        var release = new CountDownLatch(1);
+        BatchEventListener<UserChangedEvent> slow = events -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        var blocked = new MicroBatchingEventListener<>(slow, Duration.ofMillis(10), 100);
+        try (var testee = new MicroBatchingEventListener<UserChangedEvent>(this::receive, Duration.ofMillis(50), 100)) {
+            blocked.onEvent(new UserChangedEvent(0));
+            testee.onEvent(new UserChangedEvent(1));
+
+            assertThat(batches.poll(5, TimeUnit.SECONDS)).containsExactly(1);
+            assertThat(release.getCount()).isOne();
+        } finally {
+            release.countDown();
+            blocked.close();
+        }
+    }
+
+    @Test
+    void shall_close_the_adapter_when_unsubscribed_from_all_types() {
+        var dispatcher = new CopyOnWriteEventDispatcher(null);
+        BatchEventListener<RootApplicationEvent> listener = this::receive;
+        dispatcher.subscribe(UserChangedEvent.class, listener, Duration.ofHours(1), 10);
+        dispatcher.subscribe(RoleChangedEvent.class, listener, Duration.ofHours(1), 10);
+        dispatcher.dispatch(new UserChangedEvent(1));
+
+        dispatcher.unsubscribe(RoleChangedEvent.class, listener);
+        dispatcher.dispatch(new RoleChangedEvent("r"));
+        assertThat(batches).isEmpty();
+
+        dispatcher.unsubscribe(UserChangedEvent.class, listener);
+        assertThat(batches).containsExactly(List.of(1));
+        dispatcher.dispatch(new UserChangedEvent(2));
+        assertThat(batches).hasSize(1);
+
+        dispatcher.subscribe(UserChangedEvent.class, listener, Duration.ofHours(1), 1);
+        dispatcher.dispatch(new UserChangedEvent(3));
+        assertThat(batches).containsExactly(List.of(1), List.of(3));
+    }
+}
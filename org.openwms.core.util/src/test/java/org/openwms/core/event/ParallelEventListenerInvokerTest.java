@@ -0,0 +1,124 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.junit.jupiter.api.Test;
+import org.openwms.core.SpringProfiles;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ParallelEventListenerInvokerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ParallelEventListenerInvokerTest {
+
+    private static final class KeyedEvent extends RootApplicationEvent {
+
+        private final String key;
+
+        KeyedEvent(String key, int sequence) {
+            super(sequence);
+            this.key = key;
+        }
+
+        @Override
+        public Object getOrderingKey() {
+            return key;
+        }
+    }
+
+    @Test
+    void shall_keep_order_per_key_and_listener() {
+        var testee = new ParallelEventListenerInvoker(4, false);
+        var dispatcher = new CopyOnWriteEventDispatcher(null, testee);
+        Map<String, List<Object>> first = new ConcurrentHashMap<>();
+        Map<String, List<Object>> second = new ConcurrentHashMap<>();
+        dispatcher.subscribe(KeyedEvent.class, e -> first.computeIfAbsent((String) e.getOrderingKey(), k -> new CopyOnWriteArrayList<>()).add(e.getSource()));
+        dispatcher.subscribe(KeyedEvent.class, e -> second.computeIfAbsent((String) e.getOrderingKey(), k -> new CopyOnWriteArrayList<>()).add(e.getSource()));
+
+        for (int i = 0; i < 500; i++) {
+            dispatcher.dispatch(new KeyedEvent("A", i));
+            dispatcher.dispatch(new KeyedEvent("B", i));
+        }
+        testee.destroy();
+
+        var expected = IntStream.range(0, 500).boxed().toList();
+        assertThat(first.get("A")).containsExactlyElementsOf(expected);
+        assertThat(first.get("B")).containsExactlyElementsOf(expected);
+        assertThat(second.get("A")).containsExactlyElementsOf(expected);
+        assertThat(second.get("B")).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shall_deliver_unordered_events() {
+        var testee = new ParallelEventListenerInvoker(1, true);
+        var dispatcher = new CopyOnWriteEventDispatcher(null, testee);
+        var received = new CopyOnWriteArrayList<Object>();
+        dispatcher.subscribe(UserChangedEvent.class, e -> received.add(e.getSource()));
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(new UserChangedEvent(i));
+        }
+        testee.destroy();
+
+        assertThat(received).hasSize(100).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shall_drop_invocations_after_destroy() {
+        var testee = new ParallelEventListenerInvoker(4, false);
+        var received = new CopyOnWriteArrayList<Object>();
+        testee.destroy();
+
+        testee.invoke(e -> received.add(e.getSource()), new RootApplicationEvent(1));
+        testee.invoke(e -> received.add(e.getSource()), new KeyedEvent("a", 2));
+
+        assertThat(received).isEmpty();
+    }
+
+    private static AnnotationConfigApplicationContext context(String... profiles) {
+        var ctx = new AnnotationConfigApplicationContext();
+        ctx.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(ParallelEventListenerInvoker.PROPERTY_NAME, "true")));
+        ctx.getEnvironment().setActiveProfiles(profiles);
+        ctx.register(ParallelEventListenerInvoker.class, VirtualThreadEventListenerInvoker.class);
+        ctx.refresh();
+        return ctx;
+    }
+
+    @Test
+    void shall_register_the_parallel_invoker_when_enabled() {
+        try (var ctx = context()) {
+            assertThat(ctx.getBean(EventListenerInvoker.class)).isInstanceOf(ParallelEventListenerInvoker.class);
+        }
+    }
+
+    @Test
+    void shall_only_register_the_virtual_thread_invoker_with_its_profile() {
+        try (var ctx = context(SpringProfiles.VIRTUAL_THREADS)) {
+            assertThat(ctx.getBean(EventListenerInvoker.class)).isInstanceOf(VirtualThreadEventListenerInvoker.class);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.ameba.exception.ServiceLayerException;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.openwms.core.event.RingBufferEventPublisher.BackpressurePolicy.BLOCK;
+import static org.openwms.core.event.RingBufferEventPublisher.BackpressurePolicy.DROP_OLDEST;
+import static org.openwms.core.event.RingBufferEventPublisher.BackpressurePolicy.REJECT;
+import static org.openwms.core.event.RingBufferEventPublisher.WaitStrategy.PARK;
+import static org.openwms.core.event.RingBufferEventPublisher.WaitStrategy.YIELD;
+
+/**
+ * A RingBufferEventPublisherTest.
+ *
+ * @author Heiko Scherrer
+ */
+class RingBufferEventPublisherTest {
+
+    private final ConcurrentLinkedQueue<Object> received = new ConcurrentLinkedQueue<>();
+
+    private EventDispatcher dispatcher() {
+        var dispatcher = new CopyOnWriteEventDispatcher(null);
+        dispatcher.subscribe(UserChangedEvent.class, e -> received.add(e.getSource()));
+        return dispatcher;
+    }
+
+    @Test
+    void shall_reject_invalid_capacity() {
+        var dispatcher = dispatcher();
+        assertThatThrownBy(() -> new RingBufferEventPublisher<>(dispatcher, 1000, 1, 1, PARK, BLOCK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shall_deliver_all_events_of_concurrent_producers() throws Exception {
+        var testee = new RingBufferEventPublisher<UserChangedEvent>(dispatcher(), 16, 2, 4, YIELD, BLOCK);
+        testee.start();
+        var producers = IntStream.range(0, 4)
+                .mapToObj(p -> Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        testee.publish(new UserChangedEvent(p * 1000 + i));
+                    }
+                }))
+                .toList();
+        for (var producer : producers) {
+            producer.join();
+        }
+        testee.stop();
+
+        assertThat(received).hasSize(4000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shall_buffer_until_started_and_reject_when_full() {
+        var testee = new RingBufferEventPublisher<UserChangedEvent>(dispatcher(), 2, 1, 1, PARK, REJECT);
+        testee.publish(new UserChangedEvent(1));
+        testee.publish(new UserChangedEvent(2));
+        var event = new UserChangedEvent(3);
+
+        assertThatThrownBy(() -> testee.publish(event)).isInstanceOf(ServiceLayerException.class);
+        testee.start();
+        testee.stop();
+
+        assertThat(received).containsExactly(1, 2);
+        assertThatThrownBy(() -> testee.publish(event)).isInstanceOf(ServiceLayerException.class);
+    }
+
+    @Test
+    void shall_reject_a_blocked_producer_when_stopped() throws Exception {
+        var testee = new RingBufferEventPublisher<UserChangedEvent>(dispatcher(), 2, 1, 1, PARK, BLOCK);
+        testee.publish(new UserChangedEvent(1));
+        testee.publish(new UserChangedEvent(2));
+        var failure = new AtomicReference<Throwable>();
+        var producer = Thread.ofPlatform().start(() -> {
+            try {
+                testee.publish(new UserChangedEvent(3));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        Thread.sleep(50);
+        testee.stop();
+        producer.join(5_000);
+
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(failure.get()).isInstanceOf(ServiceLayerException.class);
+    }
+
+    @Test
+    void shall_drop_oldest_when_full() {
+        var testee = new RingBufferEventPublisher<UserChangedEvent>(dispatcher(), 4, 1, 2, PARK, DROP_OLDEST);
+        for (int i = 0; i < 6; i++) {
+            testee.publish(new UserChangedEvent(i));
+        }
+        testee.start();
+        testee.stop();
+
+        assertThat(received).containsExactlyElementsOf(List.of(2, 3, 4, 5));
+        assertThat(testee.getDroppedCount()).isEqualTo(2);
+    }
+
+    private AnnotationConfigApplicationContext context(String enabled) {
+        var ctx = new AnnotationConfigApplicationContext();
+        if (enabled != null) {
+            ctx.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(RingBufferEventPublisher.PROPERTY_NAME, enabled)));
+        }
+        ctx.registerBean(EventDispatcher.class, this::dispatcher);
+        ctx.register(NonBlockingEventPublisherImpl.class, RingBufferEventPublisher.class);
+        ctx.refresh();
+        return ctx;
+    }
+
+    @Test
+    void shall_only_register_the_non_blocking_publisher_by_default() {
+        try (var ctx = context(null)) {
+            assertThat(ctx.getBean(EventPublisher.class)).isInstanceOf(NonBlockingEventPublisherImpl.class);
+        }
+        try (var ctx = context("false")) {
+            assertThat(ctx.getBean(EventPublisher.class)).isInstanceOf(NonBlockingEventPublisherImpl.class);
+        }
+    }
+
+    @Test
+    void shall_only_register_the_ring_buffer_publisher_when_enabled() {
+        try (var ctx = context("true")) {
+            assertThat(ctx.getBean(EventPublisher.class)).isInstanceOf(RingBufferEventPublisher.class);
+        }
+    }
+}
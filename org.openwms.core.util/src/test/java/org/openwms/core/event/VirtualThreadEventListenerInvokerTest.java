@@ -0,0 +1,60 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A VirtualThreadEventListenerInvokerTest.
+ *
+ * @author Heiko Scherrer
+ */
+class VirtualThreadEventListenerInvokerTest {
+
+    @Test
+    void shall_limit_concurrency_per_event_type() {
+        var testee = new VirtualThreadEventListenerInvoker(8);
+        testee.setConcurrencyLimit(UserChangedEvent.class, 2);
+        var active = new AtomicInteger();
+        var maxActive = new AtomicInteger();
+        var threads = new ConcurrentLinkedQueue<Boolean>();
+        EventListener listener = e -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            threads.add(Thread.currentThread().isVirtual());
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+        };
+        var dispatcher = new CopyOnWriteEventDispatcher(null, testee);
+        dispatcher.subscribe(UserChangedEvent.class, listener);
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatch(new UserChangedEvent(i));
+        }
+        testee.destroy();
+
+        assertThat(threads).hasSize(10).containsOnly(true);
+        assertThat(maxActive.get()).isBetween(1, 2);
+    }
+}
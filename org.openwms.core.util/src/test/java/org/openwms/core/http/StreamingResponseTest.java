@@ -0,0 +1,91 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A StreamingResponseTest.
+ *
+ * @author Heiko Scherrer
+ */
+class StreamingResponseTest {
+
+    private final AbstractWebController testee = new AbstractWebController(null, new ObjectMapper()) {};
+
+    record Stock(String sku, int qty) {
+    }
+
+    @Test
+    void shall_stream_ndjson_and_close_the_stream() throws Exception {
+        var closed = new AtomicBoolean();
+        var consumed = new AtomicBoolean();
+        var response = testee.buildNdjsonResponse(IntStream.range(0, 3).peek(i -> consumed.set(true)).mapToObj(i -> new Stock("S" + i, i)).onClose(() -> closed.set(true)));
+        assertThat(consumed).isFalse();
+
+        var out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(AbstractWebController.APPLICATION_NDJSON);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                {"sku":"S0","qty":0}
+                {"sku":"S1","qty":1}
+                {"sku":"S2","qty":2}
+                """);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shall_stream_json_array_and_flush_every_n_elements() throws Exception {
+        var flushes = new AtomicInteger();
+        var out = new ByteArrayOutputStream();
+        var counting = new FilterOutputStream(out) {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        var response = testee.buildJsonArrayResponse(List.of(new Stock("A", 1), new Stock("B", 2), new Stock("C", 3)).iterator(), 2);
+        response.getBody().writeTo(counting);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("[{\"sku\":\"A\",\"qty\":1},{\"sku\":\"B\",\"qty\":2},{\"sku\":\"C\",\"qty\":3}]");
+        assertThat(flushes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shall_reject_invalid_flush_size_without_consuming_the_stream() {
+        var consumed = new AtomicBoolean();
+        var elements = Stream.of(1).peek(i -> consumed.set(true));
+
+        assertThatThrownBy(() -> testee.buildJsonArrayResponse(elements, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(consumed).isFalse();
+    }
+}
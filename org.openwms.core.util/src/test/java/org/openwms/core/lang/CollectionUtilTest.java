@@ -16,12 +16,19 @@
 package org.openwms.core.lang;
 
 import org.junit.jupiter.api.Test;
+import org.openwms.core.DomainObject;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * A CollectionUtilTest.
@@ -46,4 +53,116 @@ class CollectionUtilTest {
         assertEquals(Collections.EMPTY_MAP, CollectionUtil.asHashMap(Collections.emptyList(), null), "Calling with an empty list shall result in an empty map");
         assertEquals(Collections.EMPTY_MAP, CollectionUtil.asHashMap(strings, null), "Calling with a list and no extractor shall result in an empty map");
     }
-}
\ No newline at end of file
+
+    /* Extracts the first character as key and the length as value */
+    private static final ListExtractor<Character, Integer> FIRST_CHAR = new ListExtractor<>() {
+        @Override
+        public <T> Character extractKey(T listNode) {
+            return listNode.toString().charAt(0);
+        }
+
+        @Override
+        public <T> Integer extractValue(T listNode) {
+            return listNode.toString().length();
+        }
+    };
+
+    @Test void testIndexBy() {
+        var strings = Arrays.asList("a1", "b1", "a22");
+        assertEquals(Map.of('a', "a22", 'b', "b1"), CollectionUtil.indexBy(strings, FIRST_CHAR), "The last element with a key shall win");
+        assertEquals(Collections.EMPTY_MAP, CollectionUtil.indexBy(null, FIRST_CHAR), "Calling with null should result in an empty map");
+    }
+
+    @Test void testGroupBy() {
+        var strings = new LinkedList<>(List.of("b1", "a1", "a22", "b333", "c"));
+        var groups = CollectionUtil.groupBy(strings, FIRST_CHAR);
+        assertEquals(List.of('b', 'a', 'c'), new ArrayList<>(groups.keySet()), "Groups shall be in the order of their first occurrence");
+        assertEquals(Map.of('a', List.of(2, 3), 'b', List.of(2, 4), 'c', List.of(1)), groups);
+    }
+
+    @Test void testPartition() {
+        var result = CollectionUtil.partition(List.of(1, 2, 3, 4, 5), i -> i % 2 == 0);
+        assertEquals(List.of(2, 4), result.get(true));
+        assertEquals(List.of(1, 3, 5), result.get(false));
+        assertEquals(Collections.emptyList(), CollectionUtil.partition(null, i -> true).get(true));
+    }
+
+    @Test void testChunkAndBatch() {
+        var numbers = List.of(1, 2, 3, 4, 5);
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), CollectionUtil.chunk(numbers, 2));
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5)), CollectionUtil.chunk(new LinkedList<>(numbers), 3));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtil.chunk(numbers, 0));
+
+        var batches = new ArrayList<List<Integer>>();
+        CollectionUtil.batch(new LinkedList<>(numbers), 2, b -> batches.add(List.copyOf(b)));
+        CollectionUtil.batch(numbers, 4, b -> batches.add(List.copyOf(b)));
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5), List.of(1, 2, 3, 4), List.of(5)), batches);
+    }
+
+    @Test void testAsHashMapParallel() {
+        var numbers = new ArrayList<Integer>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add((i * 7919) % 50_000);
+        }
+        var byRest = new ListExtractor<Integer, Integer>() {
+            @Override
+            public <T> Integer extractKey(T listNode) {
+                return (Integer) listNode % 30_000;
+            }
+
+            @Override
+            public <T> Integer extractValue(T listNode) {
+                return (Integer) listNode;
+            }
+        };
+        for (var policy : List.of(DuplicateKeyPolicy.FIRST_WINS, DuplicateKeyPolicy.LAST_WINS)) {
+            var expected = CollectionUtil.asHashMap(numbers, byRest, policy);
+            var ordered = CollectionUtil.asHashMapParallel(numbers, byRest, policy);
+            assertEquals(expected, ordered, "The parallel result shall equal the sequential one with " + policy);
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(ordered.keySet()), "The encounter order shall be kept");
+            assertEquals(expected, CollectionUtil.asUnorderedHashMapParallel(numbers, byRest, policy), "The unordered result shall equal the sequential one with " + policy);
+        }
+        assertEquals(30_000, CollectionUtil.asHashMapParallel(numbers, byRest, DuplicateKeyPolicy.FIRST_WINS).size());
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.asUnorderedHashMapParallel(numbers, byRest, DuplicateKeyPolicy.FAIL));
+        assertEquals(Collections.EMPTY_MAP, CollectionUtil.asHashMapParallel(null, byRest, DuplicateKeyPolicy.FAIL));
+    }
+
+    record Entity(Long getId, String name) implements DomainObject<Long> {
+
+        @Override
+        public boolean isNew() {
+            return getId == null;
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+    }
+
+    @Test void testIndexById() {
+        var entities = List.of(new Entity(1L, "a"), new Entity(2L, "b"), new Entity(1L, "c"));
+        assertEquals("c", CollectionUtil.indexById(entities).get(1L).name());
+        assertEquals("a", CollectionUtil.indexById(entities, DuplicateKeyPolicy.FIRST_WINS).get(1L).name());
+        assertThrows(IllegalStateException.class, () -> CollectionUtil.indexById(entities, DuplicateKeyPolicy.FAIL));
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtil.indexById(List.of(new Entity(null, "new"))));
+        assertTrue(CollectionUtil.indexById(null).isEmpty());
+    }
+
+    record Location(String code, int bins) {
+    }
+
+    @Test void testKeyValueExtractor() {
+        var locations = List.of(new Location("A", 1), new Location("B", 2), new Location("A", 3));
+        var byRecord = KeyValueExtractor.ofRecord(Location.class, "code", "bins");
+        var byLambda = KeyValueExtractor.<Location, String, Integer>of(Location::code, Location::bins);
+
+        assertEquals(Map.of("A", 3, "B", 2), CollectionUtil.asMap(locations, byRecord));
+        assertEquals(CollectionUtil.asMap(locations, byRecord), CollectionUtil.asMap(locations, byLambda));
+        assertEquals(Map.of("A", List.of(1, 3), "B", List.of(2)), CollectionUtil.groupBy(locations, byLambda));
+        assertEquals("B", CollectionUtil.indexBy(locations, Location::bins).get(2).code());
+        List<String> strings = List.of("a1", "b1", "a22");
+        assertEquals(Map.of('a', 3, 'b', 2), CollectionUtil.asMap(strings, KeyValueExtractor.of(FIRST_CHAR)));
+        assertThrows(IllegalArgumentException.class, () -> KeyValueExtractor.ofRecord(Location.class, "code", "none"));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A LongObjectMapTest.
+ *
+ * @author Heiko Scherrer
+ */
+class LongObjectMapTest {
+
+    @Test void testBehavesLikeHashMap() {
+        var random = new Random(42);
+        var expected = new HashMap<Long, Long>();
+        var testee = new LongObjectMap<Long>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) - 100;
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.remove(key), testee.remove(key), "remove " + key);
+                case 1 -> assertEquals(expected.putIfAbsent(key, (long) i), testee.putIfAbsent(key, (long) i), "putIfAbsent " + key);
+                default -> assertEquals(expected.put(key, (long) i), testee.put(key, (long) i), "put " + key);
+            }
+        }
+        assertEquals(expected.size(), testee.size());
+        for (long key = -100; key < 4_900; key++) {
+            assertEquals(expected.get(key), testee.get(key), "get " + key);
+        }
+        var copy = new HashMap<Long, Long>();
+        testee.forEach(copy::put);
+        assertEquals(expected, copy);
+        assertEquals(expected.size(), testee.keys().length);
+    }
+
+    @Test void testZeroKeyAndClear() {
+        var testee = new LongObjectMap<String>(0);
+        assertNull(testee.put(0, "zero"));
+        assertEquals("zero", testee.put(0, "other"));
+        assertTrue(testee.containsKey(0));
+        testee.put(Long.MIN_VALUE, "min");
+        assertEquals(2, testee.size());
+        testee.clear();
+        assertTrue(testee.isEmpty());
+        assertFalse(testee.containsKey(0));
+        assertEquals("none", testee.getOrDefault(Long.MIN_VALUE, "none"));
+    }
+}
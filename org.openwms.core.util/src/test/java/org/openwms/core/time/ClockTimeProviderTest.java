@@ -0,0 +1,82 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A ClockTimeProviderTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ClockTimeProviderTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final Instant NOW = Instant.parse("2025-03-30T01:30:00.123456789Z");
+
+    @Test
+    void shall_resolve_the_clock_in_the_configured_zone() {
+        var testee = new ClockTimeProvider(Clock.fixed(NOW, BERLIN));
+
+        assertThat(testee.nowAsCurrentInstant()).isEqualTo(NOW);
+        assertThat(testee.nowAsZuluInstant()).isEqualTo(NOW);
+        assertThat(testee.nowAsCurrentDate()).isEqualTo(Date.from(NOW));
+        assertThat(testee.nowAsZuluDate()).isEqualTo(Date.from(NOW));
+        assertThat(testee.nowAsCurrentZonedDateTime()).isEqualTo(ZonedDateTime.ofInstant(NOW, BERLIN));
+        assertThat(testee.nowAsCurrentZonedDateTime().getOffset()).isEqualTo(ZoneOffset.ofHours(2));
+        assertThat(testee.nowAsZuluZonedDateTime()).isEqualTo(ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC));
+        assertThat(testee.nowAsZonedDateTime(ZoneId.of("America/New_York"))).isEqualTo(ZonedDateTime.ofInstant(NOW, ZoneId.of("America/New_York")));
+        assertThat(testee.isTicking()).isFalse();
+    }
+
+    @Test
+    void shall_refresh_the_instant_in_ticker_mode() throws Exception {
+        var millis = new AtomicLong(1000);
+        var testee = new ClockTimeProvider(() -> Instant.ofEpochMilli(millis.get()), ZoneOffset.UTC, Duration.ofMillis(5));
+        try {
+            assertThat(testee.isTicking()).isTrue();
+            assertThat(testee.millis()).isEqualTo(1000);
+
+            millis.set(2000);
+            var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (testee.millis() != 2000 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(testee.nowAsZuluInstant()).isEqualTo(Instant.ofEpochMilli(2000));
+        } finally {
+            testee.destroy();
+        }
+    }
+
+    @Test
+    void shall_reject_negative_intervals() {
+        var clock = Clock.systemUTC();
+        var interval = Duration.ofMillis(-1);
+        assertThatThrownBy(() -> new ClockTimeProvider(clock, ZoneOffset.UTC, interval)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.openwms.core.app.DateFormatterDeserializer;
+import org.openwms.core.app.DateFormatterSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A DateTimeFormattersTest.
+ *
+ * @author Heiko Scherrer
+ */
+class DateTimeFormattersTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 7, 8, 5, 9, 42_000_000);
+
+    @Test
+    void shall_provide_the_precompiled_formatters() {
+        assertThat(DateTimeFormatters.of(TimeProvider.DATE_FORMAT)).isSameAs(DateTimeFormatters.DATE);
+        assertThat(DateTimeFormatters.of(TimeProvider.DATE_TIME_MILLIS_WITH_TIMEZONE_FORMAT)).isSameAs(DateTimeFormatters.DATE_TIME_MILLIS_WITH_TIMEZONE);
+        assertThat(DateTimeFormatters.of("HH:mm")).isSameAs(DateTimeFormatters.of("HH:mm"));
+    }
+
+    @Test
+    void shall_append_like_the_formatters() {
+        var sb = new StringBuilder("at ");
+        DateTimeFormatters.appendDateTimeMillis(NOW, sb);
+        assertThat(sb).hasToString("at " + DateTimeFormatters.DATE_TIME_MILLIS.format(NOW));
+
+        assertThat(DateTimeFormatters.appendDate(NOW.toLocalDate(), new StringBuilder())).hasToString("2025-03-07");
+        assertThat(DateTimeFormatters.appendDateTime(NOW, new StringBuilder())).hasToString("2025-03-07 08:05:09");
+        var farAway = LocalDate.of(12345, 1, 1);
+        assertThat(DateTimeFormatters.appendDate(farAway, new StringBuilder())).hasToString(DateTimeFormatters.DATE.format(farAway));
+    }
+
+    @Test
+    void shall_write_and_parse_bytes() {
+        var buf = new byte[40];
+        var end = DateTimeFormatters.writeDateTimeMillis(NOW, buf, 2);
+        assertThat(end).isEqualTo(2 + DateTimeFormatters.DATE_TIME_MILLIS_LENGTH);
+        assertThat(new String(buf, 2, end - 2, StandardCharsets.US_ASCII)).isEqualTo("2025-03-07 08:05:09.042");
+        assertThat(DateTimeFormatters.parseDateTimeMillis(buf, 2, end - 2)).isEqualTo(NOW);
+
+        end = DateTimeFormatters.writeDate(NOW.toLocalDate(), buf, 0);
+        assertThat(DateTimeFormatters.parseDate(buf, 0, end)).isEqualTo(NOW.toLocalDate());
+    }
+
+    @Test
+    void shall_parse_text() {
+        assertThat(DateTimeFormatters.parseDate("2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(DateTimeFormatters.parseDateTimeMillis("2025-03-07 08:05:09.042")).isEqualTo(NOW);
+        assertThatThrownBy(() -> DateTimeFormatters.parseDate("2025/02/01")).isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> DateTimeFormatters.parseDate("2025-2-1")).isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    void shall_parse_like_the_formatters() {
+        for (var text : List.of("2025-02-29", "2025-02-30", "2024-02-31", "2025-04-31", "0000-01-01", "0001-01-01",
+                "2025-13-01", "2025-00-10", "2025-01-32", "2025-01-00", "+025-01-01", "2025-01-0x")) {
+            assertThat(parsed(() -> DateTimeFormatters.parseDate(text))).as(text)
+                    .isEqualTo(parsed(() -> LocalDate.parse(text, DateTimeFormatters.DATE)));
+            var bytes = text.getBytes(StandardCharsets.US_ASCII);
+            assertThat(parsed(() -> DateTimeFormatters.parseDate(bytes, 0, bytes.length))).as(text)
+                    .isEqualTo(parsed(() -> LocalDate.parse(text, DateTimeFormatters.DATE)));
+        }
+        for (var text : List.of("2025-02-30 08:05:09.042", "2025-03-07 24:00:00.000", "2025-03-07 23:60:00.000",
+                "2025-03-07 23:59:60.000", "2025-03-07T08:05:09.042", "2025-03-07 08:05:09,042", "0000-03-07 08:05:09.042")) {
+            assertThat(parsed(() -> DateTimeFormatters.parseDateTimeMillis(text))).as(text)
+                    .isEqualTo(parsed(() -> LocalDateTime.parse(text, DateTimeFormatters.DATE_TIME_MILLIS)));
+            var bytes = text.getBytes(StandardCharsets.US_ASCII);
+            assertThat(parsed(() -> DateTimeFormatters.parseDateTimeMillis(bytes, 0, bytes.length))).as(text)
+                    .isEqualTo(parsed(() -> LocalDateTime.parse(text, DateTimeFormatters.DATE_TIME_MILLIS)));
+        }
+    }
+
+    private static Object parsed(Supplier<?> parser) {
+        try {
+            return parser.get();
+        } catch (DateTimeParseException e) {
+            return DateTimeParseException.class;
+        }
+    }
+
+    @Test
+    void shall_write_the_years_like_the_formatters() {
+        for (var year : List.of(0, 1, 9999, 10000, -1)) {
+            var dateTime = NOW.withYear(year);
+            assertThat(DateTimeFormatters.appendDate(dateTime.toLocalDate(), new StringBuilder())).as("year " + year)
+                    .hasToString(DateTimeFormatters.DATE.format(dateTime));
+            assertThat(DateTimeFormatters.appendDateTimeMillis(dateTime, new StringBuilder())).as("year " + year)
+                    .hasToString(DateTimeFormatters.DATE_TIME_MILLIS.format(dateTime));
+            var buf = new byte[40];
+            var end = DateTimeFormatters.writeDate(dateTime.toLocalDate(), buf, 0);
+            assertThat(new String(buf, 0, end, StandardCharsets.US_ASCII)).as("year " + year)
+                    .isEqualTo(DateTimeFormatters.DATE.format(dateTime));
+            end = DateTimeFormatters.writeDateTimeMillis(dateTime, buf, 0);
+            assertThat(new String(buf, 0, end, StandardCharsets.US_ASCII)).as("year " + year)
+                    .isEqualTo(DateTimeFormatters.DATE_TIME_MILLIS.format(dateTime));
+        }
+    }
+
+    @Test
+    void shall_use_the_time_zone_of_the_mapper() throws Exception {
+        var module = new SimpleModule()
+                .addSerializer(Date.class, new DateFormatterSerializer(ZoneOffset.UTC))
+                .addDeserializer(Date.class, new DateFormatterDeserializer(ZoneOffset.UTC));
+        var mapper = new ObjectMapper().registerModule(module).setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+        var date = Date.from(LocalDateTime.of(2025, 3, 7, 20, 0).toInstant(ZoneOffset.UTC));
+
+        assertThat(mapper.writeValueAsString(date)).isEqualTo("\"2025-03-08\"");
+        assertThat(mapper.readValue("\"2025-03-08\"", Date.class)).isEqualTo(Date.from(LocalDateTime.of(2025, 3, 7, 15, 0).toInstant(ZoneOffset.UTC)));
+    }
+
+    @Test
+    void shall_serialize_dates_with_jackson() throws Exception {
+        var module = new SimpleModule()
+                .addSerializer(Date.class, new DateFormatterSerializer(ZoneOffset.UTC))
+                .addDeserializer(Date.class, new DateFormatterDeserializer(ZoneOffset.UTC));
+        var mapper = new ObjectMapper().registerModule(module);
+        var date = Date.from(NOW.toInstant(ZoneOffset.UTC));
+
+        assertThat(mapper.writeValueAsString(date)).isEqualTo("\"2025-03-07\"");
+        assertThat(mapper.readValue("\"2025-03-07\"", Date.class)).isEqualTo(Date.from(NOW.toLocalDate().atStartOfDay(ZoneOffset.UTC).toInstant()));
+        assertThat(mapper.readValue(String.valueOf(date.getTime()), Date.class)).isEqualTo(date);
+    }
+}
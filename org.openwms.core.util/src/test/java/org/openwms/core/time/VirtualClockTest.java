@@ -0,0 +1,109 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.time;
+
+import org.junit.jupiter.api.Test;
+import org.openwms.core.SpringProfiles;
+import org.openwms.core.app.VirtualTimeConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A VirtualClockTest.
+ *
+ * @author Heiko Scherrer
+ */
+class VirtualClockTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private final AtomicLong realMillis = new AtomicLong(START.toEpochMilli());
+    private final VirtualClock testee = new VirtualClock(() -> Instant.ofEpochMilli(realMillis.get()), ZoneOffset.UTC);
+
+    private void sleep(Duration duration) {
+        realMillis.addAndGet(duration.toMillis());
+    }
+
+    @Test
+    void shall_follow_the_real_time() {
+        sleep(Duration.ofSeconds(10));
+        assertThat(testee.instant()).isEqualTo(START.plusSeconds(10));
+        assertThat(testee.getSpeed()).isEqualTo(1);
+    }
+
+    @Test
+    void shall_warp_the_time() {
+        sleep(Duration.ofSeconds(10));
+        testee.warp(3600);
+        sleep(Duration.ofSeconds(24));
+
+        assertThat(testee.instant()).isEqualTo(START.plusSeconds(10).plus(Duration.ofHours(24)));
+    }
+
+    @Test
+    void shall_freeze_and_resume() {
+        testee.warp(2).freeze();
+        sleep(Duration.ofMinutes(5));
+        assertThat(testee.isFrozen()).isTrue();
+        assertThat(testee.getSpeed()).isZero();
+        assertThat(testee.instant()).isEqualTo(START);
+
+        testee.step(Duration.ofMinutes(1));
+        assertThat(testee.instant()).isEqualTo(START.plusSeconds(60));
+
+        testee.resume();
+        sleep(Duration.ofSeconds(1));
+        assertThat(testee.instant()).isEqualTo(START.plusSeconds(62));
+        assertThat(testee.getSpeed()).isEqualTo(2);
+    }
+
+    @Test
+    void shall_share_the_time_with_zoned_clocks() {
+        var berlin = testee.withZone(ZoneId.of("Europe/Berlin"));
+        testee.set(START.plusSeconds(3600));
+
+        assertThat(berlin.instant()).isEqualTo(testee.instant());
+        assertThat(berlin.getZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+        assertThat(new ClockTimeProvider(berlin).nowAsCurrentZonedDateTime().getHour()).isEqualTo(2);
+    }
+
+    @Test
+    void shall_reject_invalid_changes() {
+        var back = Duration.ofSeconds(-1);
+        assertThatThrownBy(() -> testee.warp(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.step(back)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shall_provide_the_virtual_time_with_the_profile() {
+        try (var ctx = new AnnotationConfigApplicationContext()) {
+            ctx.getEnvironment().setActiveProfiles(SpringProfiles.VIRTUAL_TIME);
+            ctx.register(VirtualTimeConfiguration.class);
+            ctx.refresh();
+
+            var clock = ctx.getBean(VirtualClock.class);
+            clock.freeze().set(START);
+            assertThat(ctx.getBean(TimeProvider.class).nowAsZuluInstant()).isEqualTo(START);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A CompactTreeTest.
+ *
+ * @author Heiko Scherrer
+ */
+class CompactTreeTest {
+
+    private static List<Object> childIds(TreeNode<String> node) {
+        var result = new ArrayList<>();
+        node.getChildren().forEachRemaining(e -> result.add(e.getKey()));
+        return result;
+    }
+
+    @Test
+    void shall_build_and_navigate() {
+        var tree = new CompactTree<String>(1);
+        var root = tree.createNode("WH");
+        for (int a = 0; a < 3; a++) {
+            var area = tree.createNode("AREA" + a);
+            root.addChild("A" + a, area);
+            for (int r = 0; r < 4; r++) {
+                area.addChild("R" + r, tree.createNode("RACK" + a + r));
+            }
+        }
+
+        assertThat(tree.size()).isEqualTo(16);
+        assertThat(tree.getIdentifierCount()).isEqualTo(7);
+        assertThat(childIds(root)).containsExactly("A0", "A1", "A2");
+        var rack = root.getChild("A1").getChild("R2");
+        assertThat(rack.getData()).isEqualTo("RACK12");
+        assertThat(rack.isLeaf()).isTrue();
+        assertThat(rack.getParent()).isEqualTo(root.getChild("A1"));
+        assertThat(rack.getParent().getParent().getParent()).isNull();
+        assertThat(root.getChild("R2")).isNull();
+    }
+
+    @Test
+    void shall_replace_move_and_remove_children() {
+        var tree = new CompactTree<String>();
+        var root = tree.createNode("root");
+        root.addChild("a", tree.createNode("a"));
+        root.addChild("b", tree.createNode("b"));
+        root.addChild("c", tree.createNode("c"));
+        var oldB = root.getChild("b");
+
+        root.addChild("b", tree.createNode("b2"));
+        assertThat(childIds(root)).containsExactly("a", "b", "c");
+        assertThat(root.getChild("b").getData()).isEqualTo("b2");
+        assertThat(oldB.getParent()).isNull();
+
+        var c = root.getChild("c");
+        root.getChild("a").addChild("c", c);
+        assertThat(childIds(root)).containsExactly("a", "b");
+        assertThat(c.getParent().getData()).isEqualTo("a");
+        assertThatThrownBy(() -> c.addChild("root", root)).isInstanceOf(IllegalArgumentException.class);
+
+        root.removeChild("a");
+        assertThat(childIds(root)).containsExactly("b");
+        assertThat(c.getParent().getParent()).isNull();
+    }
+
+    @Test
+    void shall_copy_nodes_of_other_implementations() {
+        var foreign = new TreeNodeImpl<String>();
+        foreign.setData("rack");
+        var bin = new TreeNodeImpl<String>();
+        bin.setData("bin");
+        foreign.addChild("B1", bin);
+        var tree = new CompactTree<String>();
+        var root = tree.createNode("root");
+
+        root.addChild("R1", foreign);
+
+        assertThat(root.getChild("R1").getChild("B1").getData()).isEqualTo("bin");
+        assertThat(bin.getParent()).isSameAs(foreign);
+    }
+}
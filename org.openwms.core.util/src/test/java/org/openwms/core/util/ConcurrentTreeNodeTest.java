@@ -0,0 +1,94 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A ConcurrentTreeNodeTest.
+ *
+ * @author Heiko Scherrer
+ */
+class ConcurrentTreeNodeTest {
+
+    @Test
+    void shall_read_consistent_snapshots_while_writing() throws Exception {
+        var root = new ConcurrentTreeNode<Integer>(0);
+        var done = new AtomicBoolean();
+        var failure = new AtomicReference<Throwable>();
+        var readers = new Thread[4];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = Thread.ofPlatform().start(() -> {
+                try {
+                    while (!done.get()) {
+                        var previous = -1;
+                        for (var it = root.getChildren(); it.hasNext(); ) {
+                            var child = it.next().getValue();
+                            // Children are added fully built and in ascending order
+                            assertThat(child.getData()).isGreaterThan(previous);
+                            assertThat(child.getChild("bin").getData()).isEqualTo(child.getData());
+                            previous = child.getData();
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+        }
+        for (int i = 0; i < 2_000; i++) {
+            var rack = new ConcurrentTreeNode<>(i);
+            rack.addChild("bin", new ConcurrentTreeNode<>(i));
+            root.addChild(i, rack);
+            if (i % 3 == 0) {
+                root.removeChild(i / 2);
+            }
+        }
+        done.set(true);
+        for (var reader : readers) {
+            reader.join();
+        }
+
+        assertThat(failure.get()).isNull();
+        assertThat(root.getChildrenSnapshot()).hasSize(2_000 - 667);
+        assertThat(root.getChild(1999).getParent()).isSameAs(root);
+    }
+
+    @Test
+    void shall_add_many_children_at_once() {
+        var root = new ConcurrentTreeNode<Integer>(0);
+        var replaced = new ConcurrentTreeNode<>(1);
+        root.addChild(1, replaced);
+        var children = new LinkedHashMap<Integer, ConcurrentTreeNode<Integer>>();
+        for (int i = 3; i > 0; i--) {
+            children.put(i, new ConcurrentTreeNode<>(i * 10));
+        }
+
+        var before = root.getChildrenSnapshot();
+        root.addChildren(children);
+
+        assertThat(before).containsOnlyKeys(1);
+        assertThat(root.getChildrenSnapshot().keySet()).containsExactly(1, 3, 2);
+        assertThat(root.getChild(1)).isSameAs(children.get(1));
+        assertThat(children.values()).allSatisfy(child -> assertThat(child.getParent()).isSameAs(root));
+        assertThat(replaced.getParent()).isNull();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A IndexedTreeNodeTest.
+ *
+ * @author Heiko Scherrer
+ */
+class IndexedTreeNodeTest {
+
+    private static IndexedTreeNode<String> node(String data) {
+        return new IndexedTreeNode<>(data);
+    }
+
+    @Test
+    void shall_resolve_paths_and_scan_subtrees() {
+        var root = node("root");
+        var area = node("A");
+        var aisle = node("03");
+        area.addChild("03", aisle);
+        aisle.addChild("R1", node("R1"));
+        aisle.addChild("R2", node("R2"));
+        var wh = node("WH1");
+        wh.addChild("A", area);
+        root.addChild("WH1", wh);
+        root.addChild("WH2", node("WH2"));
+
+        assertThat(root.findByPath("WH1/A/03/R2").getData()).isEqualTo("R2");
+        assertThat(area.findByPath("03/R1").getPath()).isEqualTo("WH1/A/03/R1");
+        assertThat(root.findByPath("WH1/B")).isNull();
+        assertThat(wh.getDescendants()).extracting(IndexedTreeNode::getPath)
+                .containsExactly("WH1/A", "WH1/A/03", "WH1/A/03/R1", "WH1/A/03/R2");
+        assertThat(root.getDescendants()).hasSize(6);
+        assertThatThrownBy(() -> aisle.addChild("X", root)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> aisle.addChild("X/Y", node("X"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shall_maintain_index_on_move_and_remove() {
+        var root = node("root");
+        var wh1 = node("WH1");
+        var wh2 = node("WH2");
+        root.addChild("WH1", wh1);
+        root.addChild("WH2", wh2);
+        var area = node("A");
+        wh1.addChild("A", area);
+        area.addChild("R1", node("R1"));
+
+        wh2.addChild("B", area);
+        assertThat(root.findByPath("WH1/A/R1")).isNull();
+        assertThat(root.findByPath("WH2/B/R1").getData()).isEqualTo("R1");
+        assertThat(wh1.isLeaf()).isTrue();
+
+        root.removeChild("WH2");
+        assertThat(root.getDescendants()).extracting(IndexedTreeNode::getPath).containsExactly("WH1");
+        assertThat(wh2.getPath()).isEmpty();
+        assertThat(wh2.findByPath("B/R1").getPath()).isEqualTo("B/R1");
+    }
+}
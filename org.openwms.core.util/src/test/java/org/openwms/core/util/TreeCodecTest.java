@@ -0,0 +1,111 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A TreeCodecTest.
+ *
+ * @author Heiko Scherrer
+ */
+class TreeCodecTest {
+
+    private final TreeCodec<String> testee = new TreeCodec<>(DataCodec.UTF8);
+
+    private static TreeNode<String> node(String data) {
+        var node = new TreeNodeImpl<String>();
+        node.setData(data);
+        return node;
+    }
+
+    private static TreeNode<String> warehouse() {
+        var root = node("Lager Süd 📦");
+        for (int a = 0; a < 3; a++) {
+            var area = node(a == 1 ? null : "AREA" + a);
+            root.addChild("A" + a, area);
+            for (int b = 0; b < 200; b++) {
+                area.addChild("B" + b, node("BIN" + a + b));
+            }
+        }
+        return root;
+    }
+
+    private static void assertSameTree(TreeNode<String> actual, TreeNode<String> expected) {
+        assertThat(TreeNodes.depthFirst(actual, false).map(TreeNode::getData))
+                .containsExactlyElementsOf(TreeNodes.depthFirst(expected, false).map(TreeNode::getData).toList());
+        assertThat(actual.getChild("A2").getChild("B199").getData()).isEqualTo("BIN2199");
+    }
+
+    @Test
+    void shall_encode_and_decode_into_buffer() throws Exception {
+        var tree = warehouse();
+
+        var buffer = testee.encode(tree);
+        var compact = new CompactTree<String>();
+        var decoded = testee.decode(buffer, compact::createNode);
+
+        assertThat(buffer.limit()).isEqualTo(testee.sizeOf(tree));
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertSameTree(decoded, tree);
+        assertThat(compact.getIdentifierCount()).isEqualTo(203);
+        var serialized = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(serialized)) {
+            out.writeObject(tree);
+        }
+        assertThat(buffer.limit() * 3).isLessThan(serialized.size());
+    }
+
+    @Test
+    void shall_write_and_read_mapped_files(@TempDir Path dir) throws Exception {
+        var tree = warehouse();
+        var file = dir.resolve("topology.bin");
+
+        testee.write(tree, file);
+        var decoded = testee.read(file, TreeCodecTest::node);
+
+        assertSameTree(decoded, tree);
+    }
+
+    @Test
+    void shall_reject_unknown_format() {
+        var buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        assertThatThrownBy(() -> testee.decode(buffer, TreeCodecTest::node)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shall_replace_unpaired_surrogates_like_the_jdk() {
+        for (var text : new String[]{"a\uD800b", "a\uDC00b", "\uD800", "\uDC00\uD800", "x\uD83D\uDCE6\uD800"}) {
+            var expected = text.getBytes(StandardCharsets.UTF_8);
+            var buffer = ByteBuffer.allocate(DataCodec.UTF8.sizeOf(text));
+            DataCodec.UTF8.write(text, buffer);
+
+            assertThat(buffer.remaining()).isZero();
+            assertThat(buffer.array()).isEqualTo(expected);
+            assertThat(DataCodec.UTF8.read(buffer.flip(), expected.length)).isEqualTo(new String(expected, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import org.junit.jupiter.api.Test;
+import org.openwms.core.event.CopyOnWriteEventDispatcher;
+import org.openwms.core.event.TreeChangedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A TreeDiffTest.
+ *
+ * @author Heiko Scherrer
+ */
+class TreeDiffTest {
+
+    /* Builds a tree from "parentPath/id=data" definitions, the data is the location key */
+    private static TreeNode<String> tree(String... definitions) {
+        var root = new IndexedTreeNode<>("WH");
+        for (var definition : definitions) {
+            var pair = definition.split("=");
+            var idx = pair[0].lastIndexOf('/');
+            var parent = idx < 0 ? root : root.findByPath(pair[0].substring(0, idx));
+            parent.addChild(pair[0].substring(idx + 1), new IndexedTreeNode<>(pair[1]));
+        }
+        return root;
+    }
+
+    private static Map<String, String> content(TreeNode<String> root) {
+        var result = new TreeMap<String, String>();
+        var stack = new ArrayList<Map.Entry<String, TreeNode<String>>>();
+        stack.add(Map.entry("", root));
+        while (!stack.isEmpty()) {
+            var entry = stack.removeLast();
+            result.put(entry.getKey(), entry.getValue().getData());
+            entry.getValue().getChildren().forEachRemaining(c -> stack.add(Map.entry(entry.getKey() + "/" + c.getKey(), c.getValue())));
+        }
+        return result;
+    }
+
+    private final TreeNode<String> before = tree("A=a", "A/01=a01", "A/01/R1=r1", "A/02=a02", "B=b", "B/01=b01");
+    private final TreeNode<String> after = tree("A=a", "A/01=a01", "A/02=a02*", "A/02/R9=r1", "C=c", "C/01=c01");
+
+    @Test
+    void shall_diff_by_path() {
+        var testee = TreeDiff.<String>byPath();
+
+        var patch = testee.diff(before, after);
+        var copy = tree("A=a", "A/01=a01", "A/01/R1=r1", "A/02=a02", "B=b", "B/01=b01");
+        testee.apply(patch, copy, IndexedTreeNode::new);
+
+        assertThat(patch.getOperations()).hasSize(6)
+                .filteredOn(TreePatch.Removed.class::isInstance).extracting(TreePatch.Operation::key)
+                .containsExactly(List.of("A", "01", "R1"), List.of("B"));
+        assertThat(content(copy)).isEqualTo(content(after));
+    }
+
+    @Test
+    void shall_detect_moves_by_key_and_dispatch() {
+        var testee = TreeDiff.<String>byKey(n -> n.getData().replace("*", ""));
+        var dispatcher = new CopyOnWriteEventDispatcher(null);
+        var received = new ArrayList<TreeChangedEvent>();
+        dispatcher.subscribe(TreeChangedEvent.class, e -> received.add((TreeChangedEvent) e));
+        var copy = tree("A=a", "A/01=a01", "A/01/R1=r1", "A/02=a02", "B=b", "B/01=b01");
+
+        var patch = TreeChangedEvent.dispatch(testee, before, after, this, dispatcher);
+        testee.apply(patch, copy, IndexedTreeNode::new);
+
+        assertThat(patch.getOperations()).containsExactly(
+                new TreePatch.Removed<>(null, "B", "b"),
+                new TreePatch.Moved<>("r1", "a01", "R1", "a02", "R9"),
+                new TreePatch.Added<>(null, "C", "c", "c"),
+                new TreePatch.Added<>("c", "01", "c01", "c01"),
+                new TreePatch.Changed<>("a02", "a02*")
+        );
+        assertThat(content(copy)).isEqualTo(content(after));
+        assertThat(received).extracting(TreeChangedEvent::getPatch).containsExactly(patch);
+        assertThat(testee.diff(after, copy).isEmpty()).isTrue();
+    }
+}
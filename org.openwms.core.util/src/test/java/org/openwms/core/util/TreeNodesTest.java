@@ -0,0 +1,111 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A TreeNodesTest.
+ *
+ * @author Heiko Scherrer
+ */
+class TreeNodesTest {
+
+    /* WH with 4 areas, each with 5 racks of 10 bins, the data is the number of occupied bins. */
+    private static TreeNode<Integer> warehouse() {
+        var tree = new CompactTree<Integer>();
+        var root = tree.createNode(0);
+        for (int a = 0; a < 4; a++) {
+            var area = tree.createNode(0);
+            root.addChild("A" + a, area);
+            for (int r = 0; r < 5; r++) {
+                var rack = tree.createNode(0);
+                area.addChild("R" + r, rack);
+                for (int b = 0; b < 10; b++) {
+                    rack.addChild("B" + b, tree.createNode(b < r ? 1 : 0));
+                }
+            }
+        }
+        return root;
+    }
+
+    @Test
+    void shall_stream_in_order() {
+        var root = new TreeNodeImpl<String>();
+        root.setData("root");
+        for (var name : new String[]{"a", "b"}) {
+            var child = new TreeNodeImpl<String>();
+            child.setData(name);
+            root.addChild(name, child);
+            var grandChild = new TreeNodeImpl<String>();
+            grandChild.setData(name + "1");
+            child.addChild("1", grandChild);
+        }
+
+        assertThat(TreeNodes.depthFirst(root, false).map(TreeNode::getData)).containsExactly("root", "a", "a1", "b", "b1");
+        assertThat(TreeNodes.breadthFirst(root, false).map(TreeNode::getData)).containsExactly("root", "a", "b", "a1", "b1");
+    }
+
+    @Test
+    void shall_stream_in_parallel() {
+        var root = warehouse();
+
+        assertThat(TreeNodes.depthFirst(root, true).count()).isEqualTo(225);
+        assertThat(TreeNodes.breadthFirst(root, true).mapToInt(TreeNode::getData).sum()).isEqualTo(40);
+
+        var spliterator = TreeNodes.depthFirst(root, true).spliterator();
+        var first = spliterator.trySplit();
+        assertThat(first).isNotNull();
+        var second = spliterator.trySplit();
+        assertThat(second).isNotNull();
+        var count = new int[1];
+        for (var split : List.of(first, second, spliterator)) {
+            split.forEachRemaining(n -> count[0]++);
+        }
+        assertThat(count[0]).isEqualTo(225);
+    }
+
+    @Test
+    void shall_aggregate_subtree_totals() {
+        var root = warehouse();
+
+        var totals = TreeNodes.aggregate(root, TreeNode::getData, Integer::sum, 2);
+
+        assertThat(totals).hasSize(225);
+        assertThat(totals.get(root)).isEqualTo(40);
+        assertThat(totals.get(root.getChild("A1"))).isEqualTo(10);
+        assertThat(totals.get(root.getChild("A1").getChild("R3"))).isEqualTo(3);
+        assertThat(TreeNodes.reduce(root, n -> 1, Integer::sum)).isEqualTo(225);
+    }
+
+    @Test
+    void shall_walk_deep_trees_without_recursion() {
+        var tree = new CompactTree<Integer>();
+        var root = tree.createNode(1);
+        for (int i = 0; i < 100_000; i++) {
+            var parent = tree.createNode(1);
+            parent.addChild("n", root);
+            root = parent;
+        }
+
+        assertThat(TreeNodes.reduce(root, TreeNode::getData, Integer::sum)).isEqualTo(100_001);
+        assertThat(TreeNodes.depthFirst(root, false).count()).isEqualTo(100_001);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.openwms.core.values.TestWeightUnit.G;
+import static org.openwms.core.values.TestWeightUnit.KG;
+import static org.openwms.core.values.TestWeightUnit.LB;
+import static org.openwms.core.values.TestWeightUnit.MG;
+import static org.openwms.core.values.TestWeightUnit.T;
+
+/**
+ * A LongMeasureTest.
+ *
+ * @author Heiko Scherrer
+ */
+class LongMeasureTest {
+
+    @Test
+    void shall_convert_exactly_with_integral_ratio() {
+        var table = UnitConversionTable.of(TestWeightUnit.class);
+
+        assertThat(table.factor(KG, G)).isEqualTo(1000);
+        assertThat(table.convert(1_500L, KG, G)).isEqualTo(1_500_000L);
+        assertThat(table.convert(1_500L, G, KG)).isEqualTo(2L);
+        assertThat(table.convert(-1_500L, G, KG)).isEqualTo(-1L);
+        assertThat(table.convert(1_000L, KG, LB)).isEqualTo(2205L);
+        assertThatThrownBy(() -> table.convert(Long.MAX_VALUE, KG, MG)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shall_calculate_in_fixed_point() {
+        var sum = LongMeasure.of(1, KG).add(LongMeasure.of(250, G)).subtract(LongMeasure.of(0.125, KG));
+
+        assertThat(sum.getMagnitude()).isEqualByComparingTo(new BigDecimal("1.125"));
+        assertThat(sum.scale(3).convertTo(G)).isEqualTo(LongMeasure.of(3375, G));
+        assertThat(sum.compareTo(LongMeasure.of(1125, G))).isZero();
+        assertThat(sum).isNotEqualTo(LongMeasure.of(1125, G));
+        assertThat(sum.subtract(sum).isZero()).isTrue();
+        assertThat(LongMeasure.of(1, G).subtract(sum).isNegative()).isTrue();
+    }
+
+    @Test
+    void shall_compare_antisymmetric_across_units() {
+        assertThat(LongMeasure.ofRaw(1, G).compareTo(LongMeasure.ofRaw(0, KG))).isPositive();
+        assertThat(LongMeasure.ofRaw(0, KG).compareTo(LongMeasure.ofRaw(1, G))).isNegative();
+        assertThat(LongMeasure.ofRaw(1, KG).compareTo(LongMeasure.ofRaw(1_000, G))).isZero();
+        assertThat(LongMeasure.ofRaw(1_000, G).compareTo(LongMeasure.ofRaw(1, KG))).isZero();
+        assertThat(LongMeasure.of(Long.MAX_VALUE / 1_000_000, T).compareTo(LongMeasure.ofRaw(Long.MAX_VALUE, MG))).isPositive();
+        assertThat(LongMeasure.ofRaw(Long.MAX_VALUE, MG).compareTo(LongMeasure.of(Long.MAX_VALUE / 1_000_000, T))).isNegative();
+        var measures = List.of(LongMeasure.ofRaw(1, G), LongMeasure.ofRaw(0, KG), LongMeasure.ofRaw(-1, LB),
+                LongMeasure.ofRaw(453_592_370, MG), LongMeasure.ofRaw(1_000_000, LB), LongMeasure.ofRaw(1, MG));
+        for (var a : measures) {
+            for (var b : measures) {
+                assertThat(Integer.signum(a.compareTo(b))).as(a + " <> " + b).isEqualTo(-Integer.signum(b.compareTo(a)));
+            }
+        }
+    }
+
+    @Test
+    void shall_fail_instead_of_saturating() {
+        assertThatThrownBy(() -> LongMeasure.of(1e13, KG)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> LongMeasure.of(Double.NaN, KG)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> LongMeasure.of(1e12, KG).scale(-10.0)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> LongMeasure.of(1, KG).scale(Double.POSITIVE_INFINITY)).isInstanceOf(ArithmeticException.class);
+        assertThat(LongMeasure.of(-1e12, KG).scale(0.5)).isEqualTo(LongMeasure.of(-500_000_000_000L, KG));
+    }
+
+    @Test
+    void shall_calculate_with_doubles() {
+        var sum = DoubleMeasure.of(1, KG).add(DoubleMeasure.of(1, LB));
+
+        assertThat(sum.getValue()).isCloseTo(1.45359237, within(1e-12));
+        assertThat(sum.getValue(G)).isCloseTo(1453.59237, within(1e-9));
+        assertThat(DoubleMeasure.of(2, KG).compareTo(DoubleMeasure.of(4, LB))).isPositive();
+        assertThat(DoubleMeasure.of(2, KG).scale(0.5).convertTo(G)).isEqualTo(DoubleMeasure.of(1000, G));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import java.util.List;
+
+/**
+ * A TestWeightUnit.
+ *
+ * @author Heiko Scherrer
+ */
+enum TestWeightUnit implements LinearUnit<TestWeightUnit> {
+
+    MG(0.001), G(1), KG(1000), T(1_000_000), LB(453.59237);
+
+    private final double conversionFactor;
+
+    TestWeightUnit(double conversionFactor) {
+        this.conversionFactor = conversionFactor;
+    }
+
+    @Override
+    public double getConversionFactor() {
+        return conversionFactor;
+    }
+
+    @Override
+    public List<TestWeightUnit> getAll() {
+        return List.of(values());
+    }
+
+    @Override
+    public TestWeightUnit getBaseUnit() {
+        return G;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2005-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openwms.core.values;
+
+import org.ameba.exception.ServiceLayerException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.openwms.core.values.TestWeightUnit.G;
+import static org.openwms.core.values.TestWeightUnit.KG;
+import static org.openwms.core.values.TestWeightUnit.T;
+
+/**
+ * A UnitConversionRegistryTest.
+ *
+ * @author Heiko Scherrer
+ */
+class UnitConversionRegistryTest {
+
+    @Test
+    void shall_find_families_and_convert_arrays() {
+        var testee = new UnitConversionRegistry(new String[]{"org.openwms.core.values"});
+        assertThatThrownBy(() -> testee.getTable(TestWeightUnit.class)).isInstanceOf(ServiceLayerException.class);
+        assertThatThrownBy(() -> testee.factor(T, G)).isInstanceOf(ServiceLayerException.class);
+        assertThatThrownBy(() -> testee.convert(new double[]{1}, KG, G)).isInstanceOf(ServiceLayerException.class);
+
+        testee.afterPropertiesSet();
+        var doubles = new double[]{1, 2.5, -0.5};
+        testee.convert(doubles, KG, G);
+        var longs = new long[]{1_500, 2_499, 2_500};
+        testee.convert(longs, KG, T);
+
+        assertThat(testee.getFamilies()).containsExactly(TestWeightUnit.class);
+        assertThat(testee.factor(T, G)).isEqualTo(1_000_000);
+        assertThat(doubles).containsExactly(1000, 2500, -500);
+        assertThat(longs).containsExactly(2, 2, 3);
+    }
+}